@@ -41,7 +41,8 @@ gcloud run deploy $SERVICE_NAME \
   --cpu 1 \
   --min-instances 0 \
   --max-instances 10 \
-  --port 8080
+  --port 8080 \
+  --use-http2
 
 # Get the deployed URL
 gcloud run services describe $SERVICE_NAME --region $REGION --format 'value(status.url)'
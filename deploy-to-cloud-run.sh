@@ -92,6 +92,7 @@ gcloud run deploy $SERVICE_NAME \
   --min-instances 0 \
   --max-instances 5 \
   --port 8080 \
+  --use-http2 \
   --timeout 300
 
 # Get service URL
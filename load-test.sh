@@ -0,0 +1,75 @@
+#!/bin/bash
+# Load test in FILE or DATABASE mode (see LOAD-TESTING.md)
+#
+# Starts the packaged application in the given mode, runs the LoadTest traffic mix
+# against it and stops it again. If loadtest/baseline-<mode>.properties exists the
+# run is compared with it and fails on a regression.
+#
+# DATABASE mode expects the local PostgreSQL from docker-compose.yml on localhost:5432.
+# The dev profile seeds it; SEED_BLOGS synthetic blogs (default 1000) give the slug
+# distribution a realistic tail.
+#
+# Usage:
+#   ./load-test.sh <FILE|DATABASE> [seconds] [users] [LoadTest options...]
+#   ./load-test.sh FILE 60 16
+#   ./load-test.sh DATABASE 120 32 --zipf=1.2
+#   ./load-test.sh FILE 60 16 --record-baseline=loadtest/baseline-file.properties
+set -e
+
+MODE=${1:?usage: ./load-test.sh <FILE|DATABASE> [seconds] [users] [options...]}
+SECONDS_MEASURED=${2:-60}
+USERS=${3:-16}
+shift $(( $# < 3 ? $# : 3 ))
+PORT=${PORT:-8080}
+JAR=$(ls target/*.jar 2>/dev/null | grep -v '\.original$' | head -1)
+
+if [ -z "$JAR" ]; then
+  echo "No jar in target/ - run 'mvn package -DskipTests' first" >&2
+  exit 1
+fi
+
+mode_lower=$(echo "$MODE" | tr '[:upper:]' '[:lower:]')
+mkdir -p target/loadtest loadtest
+
+# dev profile with request logging turned down, so logging does not dominate latency
+JAVA_ARGS=(-Dspring.profiles.active=dev -Dportfolio.datasource.type="$MODE" -Dserver.port="$PORT"
+           -Dlogging.level.com.portfolio.backend=INFO -Dlogging.level.org.springframework.web=WARN
+           -Dlogging.level.org.hibernate.SQL=WARN -Dlogging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN
+           -Dspring.jpa.show-sql=false
+           # All virtual users share one address; per-client limits would throttle the whole test
+           -Dportfolio.rate-limit.enabled=false)
+if [ "$MODE" = "FILE" ]; then
+  # Writes go to target/ so the bundled data files stay untouched
+  JAVA_ARGS+=(-Dportfolio.datasource.hot-reload=false
+              -Dportfolio.datasource.write-file-path=target/loadtest/portfolio-data.json
+              -Dportfolio.datasource.write-blog-file-path=target/loadtest/blogs.json)
+else
+  JAVA_ARGS+=(-Dspring.datasource.username=postgres -Dspring.datasource.password=postgres
+              -Dportfolio.query-budget.enforce=true
+              -Dportfolio.seed.synthetic-blogs="${SEED_BLOGS:-1000}")
+fi
+
+java "${JAVA_ARGS[@]}" -jar "$JAR" > target/loadtest/app-$mode_lower.log 2>&1 &
+APP_PID=$!
+trap 'kill $APP_PID 2>/dev/null; wait $APP_PID 2>/dev/null' EXIT
+
+for _ in $(seq 1 240); do
+  if grep -q 'Started PortfolioBackendApplication' target/loadtest/app-$mode_lower.log; then
+    break
+  fi
+  if ! kill -0 $APP_PID 2>/dev/null; then
+    echo "Application exited during startup, see target/loadtest/app-$mode_lower.log" >&2
+    exit 1
+  fi
+  sleep 0.5
+done
+
+OPTIONS=("$@")
+BASELINE=loadtest/baseline-$mode_lower.properties
+if [ -f "$BASELINE" ] && [[ " ${OPTIONS[*]} " != *" --record-baseline="* ]]; then
+  OPTIONS+=("--baseline=$BASELINE")
+fi
+
+mvn -q test-compile exec:java -Dexec.classpathScope=test \
+    -Dexec.mainClass=com.portfolio.backend.benchmark.LoadTest \
+    -Dexec.args="http://localhost:$PORT $SECONDS_MEASURED $USERS ${OPTIONS[*]}"
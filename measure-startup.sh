@@ -0,0 +1,55 @@
+#!/bin/bash
+# Repeatable startup-time measurement (see STARTUP-OPTIMIZATION.md)
+#
+# Starts the application several times with portfolio.startup.exit-on-ready=true,
+# so each run exits as soon as it is ready, and reports the startup time Spring logs,
+# the wall-clock time to exit and the peak RSS.
+#
+# Usage:
+#   ./measure-startup.sh [runs] [java options...]
+#   ./measure-startup.sh 10 -Dspring.profiles.active=dev
+#   ./measure-startup.sh 10 -Dspring.aot.enabled=true -Dportfolio.datasource.type=FILE
+#   APP="-XX:SharedArchiveFile=app.jsa -cp classes:lib/* com.portfolio.backend.PortfolioBackendApplication" ./measure-startup.sh 10
+set -e
+
+RUNS=${1:-5}
+shift || true
+JAR=$(ls target/*.jar 2>/dev/null | grep -v '\.original$' | head -1)
+APP=${APP:-"-jar $JAR"}
+
+if [ -z "$JAR" ] && [[ "$APP" == "-jar "* ]]; then
+  echo "No jar in target/ - run 'mvn package -DskipTests' first (or set APP)" >&2
+  exit 1
+fi
+
+TIME_CMD=""
+if /usr/bin/time -f %M true >/dev/null 2>&1; then
+  TIME_CMD="/usr/bin/time -f %M -o /tmp/startup-rss"
+fi
+
+started=()
+echo "run  started(s)  wall(s)  rss(MB)"
+for i in $(seq 1 "$RUNS"); do
+  log=/tmp/startup-run-$i.log
+  begin=$(date +%s%N)
+  # shellcheck disable=SC2086
+  $TIME_CMD java "$@" -Dportfolio.startup.exit-on-ready=true $APP > "$log" 2>&1 || true
+  end=$(date +%s%N)
+
+  seconds=$(grep -o 'Started PortfolioBackendApplication in [0-9.]*' "$log" | awk '{print $4}')
+  if [ -z "$seconds" ]; then
+    echo "Run $i did not start, see $log" >&2
+    exit 1
+  fi
+  wall=$(awk "BEGIN {printf \"%.3f\", ($end - $begin) / 1e9}")
+  rss="n/a"
+  if [ -n "$TIME_CMD" ]; then
+    rss=$(awk '{printf "%.0f", $1 / 1024}' /tmp/startup-rss)
+  fi
+  started+=("$seconds")
+  printf "%3d  %10s  %7s  %7s\n" "$i" "$seconds" "$wall" "$rss"
+done
+
+printf "%s\n" "${started[@]}" | sort -n | awk '
+  { v[NR] = $1; sum += $1 }
+  END { printf "min %.3fs  median %.3fs  mean %.3fs over %d runs\n", v[1], v[int((NR + 1) / 2)], sum / NR, NR }'
@@ -0,0 +1,116 @@
+#!/bin/bash
+# Smoke test of a container image over every controller (see NATIVE-IMAGE.md)
+#
+# Starts the image, waits until it serves requests, then exercises every endpoint:
+# reads of all sections, and a create/read/update/delete round trip for blogs and
+# projects. Reports the startup time Spring logs and the container RSS after the run,
+# so a native image and the JVM image can be compared side by side.
+#
+# DATABASE mode expects the local PostgreSQL from docker-compose.yml on localhost:5432,
+# starting from an empty database (docker compose down -v && docker compose up -d postgres).
+# The JSON files are imported into it on startup.
+#
+# Usage:
+#   ./smoke-test.sh <image> [FILE|DATABASE] [port]
+#   ./smoke-test.sh portfolio-backend:native-file FILE
+#   ./smoke-test.sh portfolio-backend:native DATABASE
+#   ./smoke-test.sh portfolio-backend:jvm DATABASE
+set -e
+
+IMAGE=${1:?usage: ./smoke-test.sh <image> [FILE|DATABASE] [port]}
+MODE=${2:-FILE}
+PORT=${3:-8080}
+BASE=http://localhost:$PORT
+NAME=portfolio-smoke-$$
+
+ENV_ARGS=(-e SPRING_PROFILES_ACTIVE=prod -e PORTFOLIO_DATASOURCE_TYPE="$MODE"
+          -e ALLOWED_ORIGINS=http://localhost -e SERVER_PORT="$PORT")
+if [ "$MODE" = "DATABASE" ]; then
+  ENV_ARGS+=(-e SPRING_DATASOURCE_URL=jdbc:postgresql://localhost:5432/portfoliodb
+             -e DATABASE_USERNAME=postgres -e DATABASE_PASSWORD=postgres
+             -e SPRING_JPA_HIBERNATE_DDL_AUTO=update
+             -e PORTFOLIO_TRANSFER_DIRECTION=IMPORT
+             -e QUERY_BUDGET_ENFORCE=true)
+fi
+
+cleanup() {
+  docker rm -f "$NAME" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+docker run -d --name "$NAME" --network host "${ENV_ARGS[@]}" "$IMAGE" >/dev/null
+
+for _ in $(seq 1 120); do
+  if docker logs "$NAME" 2>&1 | grep -q 'Started PortfolioBackendApplication'; then
+    break
+  fi
+  if [ "$(docker inspect -f '{{.State.Running}}' "$NAME")" != "true" ]; then
+    docker logs "$NAME" >&2
+    echo "FAIL: container exited during startup" >&2
+    exit 1
+  fi
+  sleep 0.5
+done
+started=$(docker logs "$NAME" 2>&1 | grep -o 'Started PortfolioBackendApplication in [0-9.]*' | awk '{print $4}')
+if [ -z "$started" ]; then
+  docker logs "$NAME" >&2
+  echo "FAIL: application did not start within 60s" >&2
+  exit 1
+fi
+
+failures=0
+# check <expected status> <method> <path> [json body]
+check() {
+  local expected=$1 method=$2 path=$3 body=$4
+  local args=(-s -o /tmp/smoke-body -w '%{http_code}' -X "$method")
+  if [ -n "$body" ]; then
+    args+=(-H 'Content-Type: application/json' -d "$body")
+  fi
+  local status
+  status=$(curl "${args[@]}" "$BASE$path")
+  if [ "$status" = "$expected" ]; then
+    printf "  ok   %-6s %-40s %s\n" "$method" "$path" "$status"
+  else
+    printf "  FAIL %-6s %-40s %s (expected %s)\n" "$method" "$path" "$status" "$expected"
+    head -c 300 /tmp/smoke-body; echo
+    failures=$((failures + 1))
+  fi
+}
+
+json_id() {
+  grep -o '"id":[0-9]*' /tmp/smoke-body | head -1 | cut -d: -f2
+}
+
+echo "Smoke test: $IMAGE ($MODE mode)"
+check 200 GET /api/personal-info
+check 200 GET /api/education
+check 200 GET /api/experiences
+check 200 GET /api/skills
+check 200 GET /api/achievements
+check 200 GET /api/projects
+check 200 GET /api/blogs
+check 200 GET '/api/blogs/search?query=a'
+
+slug=smoke-test-$$
+check 201 POST /api/blogs "{\"title\":\"Smoke test\",\"slug\":\"$slug\",\"excerpt\":\"Smoke\",\"content\":\"Body\",\"author\":\"Smoke\",\"date\":\"2024-01-01T00:00:00\",\"tags\":[\"smoke\"],\"readTime\":\"1 min\",\"published\":true}"
+blog_id=$(json_id)
+check 200 GET "/api/blogs/$blog_id"
+check 200 GET "/api/blogs/slug/$slug"
+check 200 PUT "/api/blogs/$blog_id" "{\"title\":\"Smoke test updated\",\"slug\":\"$slug\",\"excerpt\":\"Smoke\",\"content\":\"Body\",\"author\":\"Smoke\",\"date\":\"2024-01-01T00:00:00\",\"tags\":[\"smoke\"],\"readTime\":\"1 min\",\"published\":true}"
+check 204 DELETE "/api/blogs/$blog_id"
+check 404 GET "/api/blogs/$blog_id"
+
+check 201 POST /api/projects '{"title":"Smoke test","description":"Smoke","tags":["smoke"],"featured":false}'
+project_id=$(json_id)
+check 200 GET "/api/projects/$project_id"
+check 200 PUT "/api/projects/$project_id" '{"title":"Smoke test updated","description":"Smoke","tags":["smoke"],"featured":false}'
+check 204 DELETE "/api/projects/$project_id"
+
+rss=$(docker stats --no-stream --format '{{.MemUsage}}' "$NAME" | awk '{print $1}')
+echo "startup ${started}s  rss $rss"
+
+if [ "$failures" -gt 0 ]; then
+  echo "FAIL: $failures check(s) failed" >&2
+  exit 1
+fi
+echo "PASS"
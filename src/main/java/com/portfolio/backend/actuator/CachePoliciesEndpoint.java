@@ -0,0 +1,125 @@
+package com.portfolio.backend.actuator;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.portfolio.backend.config.CachePolicyProperties;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code /actuator/cachepolicies}: each cache's effective policy from
+ * {@code portfolio.cache.*} with its current size and statistics, and clearing
+ * of one or all caches at runtime (see CACHE-IMPLEMENTATION.md).
+ *
+ * <p>Clearing goes through the application's {@link CacheManager}, so cleared
+ * blog entries release their off-heap content like any other removal.
+ */
+@Component
+@Endpoint(id = "cachepolicies")
+public class CachePoliciesEndpoint {
+
+    private final CacheManager cacheManager;
+    private final CachePolicyProperties cachePolicyProperties;
+
+    public CachePoliciesEndpoint(CacheManager cacheManager, CachePolicyProperties cachePolicyProperties) {
+        this.cacheManager = cacheManager;
+        this.cachePolicyProperties = cachePolicyProperties;
+    }
+
+    @ReadOperation
+    public Map<String, Object> caches() {
+        Map<String, Object> caches = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Map<String, Object> report = report(name);
+            if (report != null) {
+                caches.put(name, report);
+            }
+        }
+        return Map.of("caches", caches);
+    }
+
+    @ReadOperation
+    public Map<String, Object> cache(@Selector String name) {
+        return report(name);
+    }
+
+    @DeleteOperation
+    public Map<String, Object> clearCaches() {
+        List<String> cleared = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+                cleared.add(name);
+            }
+        }
+        return Map.of("cleared", cleared);
+    }
+
+    @DeleteOperation
+    public Map<String, Object> clearCache(@Selector String name) {
+        Cache cache = cacheManager.getCacheNames().contains(name) ? cacheManager.getCache(name) : null;
+        if (cache == null) {
+            return null;
+        }
+        cache.clear();
+        return Map.of("cleared", List.of(name));
+    }
+
+    private Map<String, Object> report(String name) {
+        Cache cache = cacheManager.getCacheNames().contains(name) ? cacheManager.getCache(name) : null;
+        if (cache == null
+                || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return null;
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("policy", describe(cachePolicyProperties.resolve(name)));
+        report.put("entries", nativeCache.estimatedSize());
+        nativeCache.policy().eviction()
+                .filter(eviction -> eviction.isWeighted())
+                .ifPresent(eviction -> report.put("bytes", eviction.weightedSize().orElse(0)));
+        if (nativeCache.policy().isRecordingStats()) {
+            CacheStats stats = nativeCache.stats();
+            Map<String, Object> statistics = new LinkedHashMap<>();
+            statistics.put("hits", stats.hitCount());
+            statistics.put("misses", stats.missCount());
+            statistics.put("hitRate", stats.hitRate());
+            statistics.put("evictions", stats.evictionCount());
+            statistics.put("evictedBytes", stats.evictionWeight());
+            report.put("stats", statistics);
+        }
+        return report;
+    }
+
+    // Durations and sizes as strings, independent of the actuator's ObjectMapper
+    private static Map<String, Object> describe(CachePolicyProperties.Policy policy) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        if (policy.getMaximumWeight() != null) {
+            description.put("maximumWeight", policy.getMaximumWeight().toString());
+        } else {
+            description.put("maximumSize", policy.getMaximumSize());
+        }
+        putIfSet(description, "expireAfterWrite", policy.getExpireAfterWrite());
+        putIfSet(description, "expireAfterAccess", policy.getExpireAfterAccess());
+        putIfSet(description, "refreshAfterWrite", policy.getRefreshAfterWrite());
+        description.put("values", String.valueOf(policy.getValues()));
+        description.put("recordStats", Boolean.TRUE.equals(policy.getRecordStats()));
+        putIfSet(description, "admitAfterMisses", policy.getAdmitAfterMisses());
+        return description;
+    }
+
+    private static void putIfSet(Map<String, Object> description, String key, Object value) {
+        if (value != null) {
+            description.put(key, value.toString());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.portfolio.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps the caches of the delegate manager that have an admission threshold
+ * in an {@link AdmissionFilterCache}; other caches are returned as they are.
+ */
+public class AdmissionCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, Integer> admitAfterMissesByCache;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public AdmissionCacheManager(CacheManager delegate, Map<String, Integer> admitAfterMissesByCache,
+                                 MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.admitAfterMissesByCache = admitAfterMissesByCache;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache cache = delegate.getCache(cacheName);
+            Integer admitAfterMisses = admitAfterMissesByCache.get(cacheName);
+            return cache != null && admitAfterMisses != null
+                    ? new AdmissionFilterCache(cache, admitAfterMisses, meterRegistry)
+                    : cache;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+}
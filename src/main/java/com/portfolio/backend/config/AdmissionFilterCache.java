@@ -0,0 +1,122 @@
+package com.portfolio.backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache decorator that stores a key only from its {@code admitAfterMisses}-th
+ * miss within {@link #MISS_WINDOW}. A post read once, as by a crawler walking
+ * the archive, is served but never cached. It takes no slot in Caffeine's
+ * admission window and no space off-heap, and it evicts nothing. Popular
+ * keys reach the threshold within a few reads and are then cached as usual.
+ *
+ * <p>Replacing a cached entry is always admitted, so refreshes and edits of
+ * cached posts stay cached. Misses below the threshold load on the caller's
+ * thread without coalescing; once a key is admitted, loads go through the
+ * wrapped cache again.
+ */
+public class AdmissionFilterCache implements Cache {
+
+    static final Duration MISS_WINDOW = Duration.ofMinutes(10);
+
+    // Keys counted at once; Caffeine drops the least promising ones first
+    static final int TRACKED_KEYS = 10_000;
+
+    private final Cache delegate;
+    private final int admitAfterMisses;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, AtomicInteger> misses;
+    private final Counter rejected;
+
+    public AdmissionFilterCache(Cache delegate, int admitAfterMisses, MeterRegistry meterRegistry) {
+        this(delegate, admitAfterMisses, Ticker.systemTicker(), meterRegistry);
+    }
+
+    /**
+     * With the given clock for the miss window, for simulations and tests.
+     */
+    public AdmissionFilterCache(Cache delegate, int admitAfterMisses, Ticker ticker, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.admitAfterMisses = admitAfterMisses;
+        this.misses = Caffeine.newBuilder()
+                .maximumSize(TRACKED_KEYS)
+                .expireAfterWrite(MISS_WINDOW)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .build();
+        this.rejected = Counter.builder("portfolio.cache.admission.rejected")
+                .description("Loaded values not cached because their key had missed too few times")
+                .tag("cache", delegate.getName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // Hits still go through the wrapped cache, which may refresh them or find them too old
+        if (isCached(key) || recordMiss(key) >= admitAfterMisses) {
+            return delegate.get(key, valueLoader);
+        }
+        rejected.increment();
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        AtomicInteger count = misses.getIfPresent(key);
+        if (isCached(key) || (count != null && count.get() >= admitAfterMisses)) {
+            delegate.put(key, value);
+        } else {
+            rejected.increment();
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    private int recordMiss(Object key) {
+        return misses.get(key, missed -> new AtomicInteger()).incrementAndGet();
+    }
+
+    // Looks at the native cache directly, which neither counts as a hit nor rebuilds off-heap content
+    private boolean isCached(Object key) {
+        return getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache
+                && nativeCache.asMap().containsKey(key);
+    }
+}
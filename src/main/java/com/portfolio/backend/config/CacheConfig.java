@@ -1,13 +1,35 @@
 package com.portfolio.backend.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.portfolio.backend.consistency.CacheReloaders;
+import com.portfolio.backend.consistency.CollectionVersions;
+import com.portfolio.backend.consistency.VersionedCache;
+import com.portfolio.backend.consistency.VersionedCacheManager;
+import com.portfolio.backend.offheap.OffHeapArena;
+import com.portfolio.backend.offheap.OffHeapBlogCache;
+import com.portfolio.backend.offheap.OffHeapCacheManager;
+import com.portfolio.backend.offheap.OffHeapContentStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.ToDoubleFunction;
 
 @Configuration
 @EnableCaching
@@ -23,34 +45,165 @@ public class CacheConfig {
     public static final String BLOGS_CACHE = "blogs";
     public static final String PUBLISHED_BLOGS_CACHE = "publishedBlogs";
     public static final String BLOG_BY_ID_CACHE = "blogById";
-    public static final String BLOG_BY_SLUG_CACHE = "blogBySlug";
+    public static final String BLOG_PAYLOAD_BY_SLUG_CACHE = "blogPayloadBySlug";
     public static final String PERSONAL_INFO_CACHE = "personalInfo";
 
+    // Caches whose entries are invalidated by writes to a collection (see CollectionVersions)
+    private static final Map<String, String> COLLECTION_BY_CACHE = Map.of(
+            PROJECTS_CACHE, CollectionVersions.PROJECTS,
+            FEATURED_PROJECTS_CACHE, CollectionVersions.PROJECTS,
+            PROJECT_BY_ID_CACHE, CollectionVersions.PROJECTS,
+            BLOGS_CACHE, CollectionVersions.BLOGS,
+            PUBLISHED_BLOGS_CACHE, CollectionVersions.BLOGS,
+            BLOG_BY_ID_CACHE, CollectionVersions.BLOGS,
+            BLOG_PAYLOAD_BY_SLUG_CACHE, CollectionVersions.BLOGS,
+            PERSONAL_INFO_CACHE, CollectionVersions.PERSONAL_INFO
+    );
+
+    static final List<String> CACHE_NAMES = List.of(
+            PROJECTS_CACHE, FEATURED_PROJECTS_CACHE, PROJECT_BY_ID_CACHE,
+            EXPERIENCES_CACHE, SKILLS_CACHE, EDUCATION_CACHE, ACHIEVEMENTS_CACHE,
+            BLOGS_CACHE, PUBLISHED_BLOGS_CACHE, BLOG_BY_ID_CACHE, BLOG_PAYLOAD_BY_SLUG_CACHE,
+            PERSONAL_INFO_CACHE);
+
+    // Background reloads of entries past their refresh interval (see VersionedCache)
+    private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                PROJECTS_CACHE,
-                FEATURED_PROJECTS_CACHE,
-                PROJECT_BY_ID_CACHE,
-                EXPERIENCES_CACHE,
-                SKILLS_CACHE,
-                EDUCATION_CACHE,
-                ACHIEVEMENTS_CACHE,
-                BLOGS_CACHE,
-                PUBLISHED_BLOGS_CACHE,
-                BLOG_BY_ID_CACHE,
-                BLOG_BY_SLUG_CACHE,
-                PERSONAL_INFO_CACHE
-        );
-
-        cacheManager.setCaffeine(caffeineCacheBuilder());
-        return cacheManager;
+    public CacheManager cacheManager(CachePolicyProperties cachePolicyProperties, ReplicaProperties replicaProperties,
+                                     OffHeapProperties offHeapProperties, ObjectProvider<CacheReloaders> reloaders,
+                                     MeterRegistry meterRegistry) {
+        List<String> unknown = cachePolicyProperties.unknownPolicies(CACHE_NAMES);
+        if (!unknown.isEmpty()) {
+            throw new IllegalStateException("portfolio.cache.policies names unknown caches " + unknown
+                    + "; known caches are " + CACHE_NAMES);
+        }
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // No dynamic caches: every cache is declared above with its own policy
+        cacheManager.setCacheNames(List.of());
+
+        // Blog content lives off-heap and is released once no cache entry refers to it
+        OffHeapContentStore contentStore = offHeapProperties.isEnabled()
+                ? new OffHeapContentStore(new OffHeapArena((int) offHeapProperties.getChunkSize().toBytes(),
+                        (int) offHeapProperties.getSlabSize().toBytes(), offHeapProperties.getMaxSize().toBytes()),
+                        meterRegistry)
+                : null;
+        Set<String> offHeapCaches = contentStore != null ? Set.copyOf(offHeapProperties.getCaches()) : Set.of();
+        RemovalListener<Object, Object> releaseContent =
+                (key, stored, cause) -> OffHeapBlogCache.release(VersionedCache.unwrap(stored), contentStore);
+
+        CacheEntryWeigher weigher = new CacheEntryWeigher();
+        Map<String, Duration> refreshByCache = new HashMap<>();
+        Map<String, Integer> admitAfterMissesByCache = new HashMap<>();
+        for (String name : CACHE_NAMES) {
+            CachePolicyProperties.Policy policy = cachePolicyProperties.resolve(name);
+            if (policy.getAdmitAfterMisses() == null || policy.getAdmitAfterMisses() < 1) {
+                throw new IllegalStateException("Cache " + name + " needs an admit-after-misses of at least 1, not "
+                        + policy.getAdmitAfterMisses());
+            }
+            if (policy.getAdmitAfterMisses() > 1) {
+                admitAfterMissesByCache.put(name, policy.getAdmitAfterMisses());
+            }
+            Caffeine<Object, Object> builder = caffeineCacheBuilder(name, policy, weigher);
+            if (offHeapCaches.contains(name)) {
+                // A collected value cannot be released, so its off-heap content would leak
+                if (policy.getValues() != CachePolicyProperties.ValueStrength.STRONG) {
+                    throw new IllegalStateException("Cache " + name + " keeps content off-heap and needs STRONG values,"
+                            + " not " + policy.getValues());
+                }
+                builder = builder.removalListener(releaseContent);
+            }
+            Cache<Object, Object> cache = builder.build();
+            cacheManager.registerCustomCache(name, cache);
+            if (policy.getRefreshAfterWrite() != null) {
+                refreshByCache.put(name, policy.getRefreshAfterWrite());
+            }
+            if (Boolean.TRUE.equals(policy.getRecordStats())) {
+                CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+            }
+            // Caches bounded by entry count, such as the single-entry lists, are weighed when the gauge is read
+            ToDoubleFunction<Cache<Object, Object>> bytes = policy.getMaximumWeight() != null
+                    ? CacheConfig::weightedSize
+                    : counted -> estimatedSize(counted, weigher);
+            Gauge.builder("portfolio.cache.bytes", cache, bytes)
+                    .description("Bytes of content held by the cache")
+                    .tag("cache", name)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            if (policy.getMaximumWeight() != null) {
+                long maxBytes = policy.getMaximumWeight().toBytes();
+                Gauge.builder("portfolio.cache.max.bytes", () -> maxBytes)
+                        .description("Bytes of content the cache may hold")
+                        .tag("cache", name)
+                        .baseUnit("bytes")
+                        .register(meterRegistry);
+            }
+        }
+
+        long replicaLagBoundMillis = replicaProperties.isEnabled() ? replicaProperties.getMaxLag().toMillis() : 0;
+        CacheManager versioned = new VersionedCacheManager(cacheManager, COLLECTION_BY_CACHE,
+                replicaLagBoundMillis, refreshByCache, reloaders::getIfAvailable, refreshExecutor, meterRegistry);
+        CacheManager offHeap = contentStore != null
+                ? new OffHeapCacheManager(versioned, offHeapCaches, contentStore)
+                : versioned;
+        // Outermost, so values turned away never reach the off-heap store
+        return admitAfterMissesByCache.isEmpty()
+                ? offHeap
+                : new AdmissionCacheManager(offHeap, admitAfterMissesByCache, meterRegistry);
+    }
+
+    @PreDestroy
+    public void stopRefreshes() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Bounded by size or weight, Caffeine evicts with W-TinyLFU: a new entry only
+     * displaces the eviction candidate if its key has been requested more often
+     * recently. A crawler reading every rarely read post once therefore churns
+     * through the small admission window, and the hot posts stay cached.
+     */
+    private Caffeine<Object, Object> caffeineCacheBuilder(String name, CachePolicyProperties.Policy policy,
+                                                          CacheEntryWeigher weigher) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (policy.getMaximumWeight() != null) {
+            builder.maximumWeight(policy.getMaximumWeight().toBytes()).weigher(weigher);
+        } else if (policy.getMaximumSize() != null) {
+            builder.maximumSize(policy.getMaximumSize());
+        } else {
+            throw new IllegalStateException("Cache " + name + " needs a maximum-size or maximum-weight");
+        }
+        if (policy.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(policy.getExpireAfterWrite());
+        }
+        if (policy.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(policy.getExpireAfterAccess());
+        }
+        if (policy.getValues() == CachePolicyProperties.ValueStrength.SOFT) {
+            builder.softValues();
+        } else if (policy.getValues() == CachePolicyProperties.ValueStrength.WEAK) {
+            builder.weakValues();
+        }
+        if (Boolean.TRUE.equals(policy.getRecordStats())) {
+            builder.recordStats();
+        }
+        return builder;
+    }
+
+    private static double weightedSize(Cache<Object, Object> cache) {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0))
+                .orElse(0L);
     }
 
-    private Caffeine<Object, Object> caffeineCacheBuilder() {
-        return Caffeine.newBuilder()
-                .expireAfterWrite(24, TimeUnit.HOURS)
-                .maximumSize(1000)
-                .recordStats();
+    private static double estimatedSize(Cache<Object, Object> cache, CacheEntryWeigher weigher) {
+        return cache.asMap().entrySet().stream()
+                .mapToLong(entry -> weigher.weigh(entry.getKey(), entry.getValue()))
+                .sum();
     }
 }
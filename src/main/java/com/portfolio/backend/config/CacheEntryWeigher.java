@@ -0,0 +1,115 @@
+package com.portfolio.backend.config;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.portfolio.backend.consistency.VersionedCache;
+import com.portfolio.backend.dto.BlogDTO;
+import com.portfolio.backend.dto.PrecompressedResponse;
+import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.entity.Achievement;
+import com.portfolio.backend.entity.Education;
+import com.portfolio.backend.entity.Experience;
+import com.portfolio.backend.entity.PersonalInfo;
+import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.offheap.BlogHandle;
+import com.portfolio.backend.offheap.PayloadHandle;
+
+import java.util.Collection;
+
+/**
+ * Weighs cache entries by an estimate of the content they hold, in bytes, so a
+ * cache's bound follows memory rather than entry count: one long post weighs
+ * as much as many short ones. The estimate adds up string lengths and byte
+ * arrays, like the off-heap store counts content, and serializes nothing.
+ * Off-heap handles weigh the content they keep alive, so a cache's budget
+ * bounds its content wherever that is held.
+ *
+ * <p>Weighing runs only when an entry is written, that is on a cache miss.
+ */
+public class CacheEntryWeigher implements Weigher<Object, Object> {
+
+    // Entry, key and wrapper objects, independent of the content
+    private static final int ENTRY_OVERHEAD = 128;
+
+    // Header, ids, dates and flags of one DTO or entity
+    private static final int OBJECT_OVERHEAD = 64;
+
+    // Values of a type not listed below
+    private static final int DEFAULT_WEIGHT = 1024;
+
+    @Override
+    public int weigh(Object key, Object stored) {
+        // Keys are slugs, ids or SimpleKey.EMPTY; only slugs carry content
+        long keyBytes = key instanceof CharSequence slug ? slug.length() : 0;
+        long weight = ENTRY_OVERHEAD + keyBytes + contentBytes(VersionedCache.unwrap(stored));
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+    static long contentBytes(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence text) {
+            return text.length();
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (value instanceof Collection<?> values) {
+            long total = 0;
+            for (Object element : values) {
+                total += contentBytes(element);
+            }
+            return total;
+        }
+        if (value instanceof PrecompressedResponse payload) {
+            return payload.identity().length + payload.gzip().length
+                    + length(payload.identityEtag(), payload.gzipEtag());
+        }
+        if (value instanceof PayloadHandle handle) {
+            return OBJECT_OVERHEAD + handle.identity().length() + handle.gzip().length()
+                    + length(handle.identityEtag(), handle.gzipEtag());
+        }
+        if (value instanceof BlogHandle handle) {
+            return contentBytes(handle.metadata()) + (handle.content() != null ? handle.content().length() : 0);
+        }
+        if (value instanceof BlogDTO blog) {
+            return OBJECT_OVERHEAD + contentBytes(blog.getTags()) + length(blog.getTitle(), blog.getSlug(),
+                    blog.getExcerpt(), blog.getContent(), blog.getAuthor(), blog.getReadTime());
+        }
+        if (value instanceof ProjectDTO project) {
+            return OBJECT_OVERHEAD + contentBytes(project.getTags()) + length(project.getTitle(),
+                    project.getDescription(), project.getImage(), project.getGithubUrl(), project.getDemoUrl());
+        }
+        if (value instanceof Experience experience) {
+            return OBJECT_OVERHEAD + contentBytes(experience.getDescription()) + length(experience.getTitle(),
+                    experience.getCompany(), experience.getLocation(), experience.getDuration());
+        }
+        if (value instanceof Skill skill) {
+            return OBJECT_OVERHEAD + contentBytes(skill.getItems()) + length(skill.getCategory());
+        }
+        if (value instanceof Education education) {
+            return OBJECT_OVERHEAD + length(education.getDegree(), education.getInstitution(),
+                    education.getLocation(), education.getDuration(), education.getGpa());
+        }
+        if (value instanceof Achievement achievement) {
+            return OBJECT_OVERHEAD + length(achievement.getTitle(), achievement.getOrganization(),
+                    achievement.getDate(), achievement.getDescription(), achievement.getIcon());
+        }
+        if (value instanceof PersonalInfo info) {
+            return OBJECT_OVERHEAD + length(info.getName(), info.getTitle(), info.getBio(), info.getEmail(),
+                    info.getPhone(), info.getLocation(), info.getAvatar(), info.getGithubUrl(),
+                    info.getLinkedinUrl(), info.getTwitterUrl(), info.getPortfolioUrl(), info.getResumeUrl());
+        }
+        return DEFAULT_WEIGHT;
+    }
+
+    private static long length(String... values) {
+        long total = 0;
+        for (String value : values) {
+            if (value != null) {
+                total += value.length();
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,114 @@
+package com.portfolio.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "portfolio.cache")
+@Data
+public class CachePolicyProperties {
+
+    // Applied to every cache; a cache's own policy overrides it setting by setting
+    private Policy defaults = Policy.defaults();
+
+    // Per-cache policies keyed by cache name, e.g. portfolio.cache.policies.blogById.maximum-weight=16MB
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    /**
+     * The effective policy of a cache: its own settings, falling back to the
+     * defaults. A cache that sets either bound takes neither from the defaults,
+     * since Caffeine allows only one of them.
+     */
+    public Policy resolve(String cacheName) {
+        Policy own = policyOf(cacheName);
+        Policy resolved = new Policy();
+        if (own.getMaximumSize() != null || own.getMaximumWeight() != null) {
+            resolved.setMaximumSize(own.getMaximumWeight() == null ? own.getMaximumSize() : null);
+            resolved.setMaximumWeight(own.getMaximumWeight());
+        } else {
+            resolved.setMaximumSize(defaults.getMaximumWeight() == null ? defaults.getMaximumSize() : null);
+            resolved.setMaximumWeight(defaults.getMaximumWeight());
+        }
+        resolved.setExpireAfterWrite(firstNonNull(own.getExpireAfterWrite(), defaults.getExpireAfterWrite()));
+        resolved.setExpireAfterAccess(firstNonNull(own.getExpireAfterAccess(), defaults.getExpireAfterAccess()));
+        resolved.setRefreshAfterWrite(firstNonNull(own.getRefreshAfterWrite(), defaults.getRefreshAfterWrite()));
+        resolved.setValues(firstNonNull(own.getValues(), defaults.getValues()));
+        resolved.setRecordStats(firstNonNull(own.getRecordStats(), defaults.getRecordStats()));
+        resolved.setAdmitAfterMisses(firstNonNull(own.getAdmitAfterMisses(), defaults.getAdmitAfterMisses()));
+        return resolved;
+    }
+
+    /**
+     * Policy names that match none of the given caches, usually a typo.
+     */
+    public List<String> unknownPolicies(Collection<String> cacheNames) {
+        return policies.keySet().stream()
+                .filter(name -> cacheNames.stream().noneMatch(name::equalsIgnoreCase))
+                .toList();
+    }
+
+    // Environment variables bind map keys in lower case (PORTFOLIO_CACHE_POLICIES_BLOGBYID_...)
+    private Policy policyOf(String cacheName) {
+        Policy policy = policies.get(cacheName);
+        if (policy != null) {
+            return policy;
+        }
+        return policies.entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase(cacheName))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElseGet(Policy::new);
+    }
+
+    private static <T> T firstNonNull(T value, T fallback) {
+        return value != null ? value : fallback;
+    }
+
+    @Data
+    public static class Policy {
+
+        // Bound by number of entries; ignored when maximum-weight is set
+        private Long maximumSize;
+
+        // Bound by bytes of content, as weighed by CacheEntryWeigher
+        private DataSize maximumWeight;
+
+        private Duration expireAfterWrite;
+
+        private Duration expireAfterAccess;
+
+        // Entries older than this are reloaded in the background on the next read, which still gets the old value
+        private Duration refreshAfterWrite;
+
+        // SOFT lets the GC clear entries under memory pressure; WEAK clears them at the next GC
+        private ValueStrength values;
+
+        // Hit, miss and eviction counts, exported as the cache.* metrics
+        private Boolean recordStats;
+
+        // Cache a key only from its Nth miss within ten minutes, so keys read once never displace others (see AdmissionFilterCache)
+        private Integer admitAfterMisses;
+
+        static Policy defaults() {
+            Policy policy = new Policy();
+            policy.setMaximumWeight(DataSize.ofMegabytes(1));
+            policy.setExpireAfterWrite(Duration.ofHours(24));
+            policy.setValues(ValueStrength.STRONG);
+            policy.setRecordStats(true);
+            policy.setAdmitAfterMisses(1);
+            return policy;
+        }
+    }
+
+    public enum ValueStrength {
+        STRONG, SOFT, WEAK
+    }
+}
@@ -0,0 +1,32 @@
+package com.portfolio.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "portfolio.pool")
+@Data
+public class ConnectionPoolProperties {
+
+    // Derive the Hikari pool sizes from CPU count and request concurrency (see CONNECTION-POOL.md)
+    private boolean autosize = true;
+
+    // Requests one instance serves at a time (Cloud Run --concurrency); defaults to server.tomcat.threads.max
+    private Integer requestConcurrency;
+
+    // Requests mostly wait on the database, not the CPU, so more than one connection per core stays busy
+    private int connectionsPerCore = 4;
+
+    private int minIdlePerCore = 1;
+
+    // Upper bound per instance, so scaled-out instances stay within the database's max_connections
+    private int maxSize = 20;
+
+    // Open the minimum idle connections before the web server accepts traffic
+    private boolean prewarm = true;
+
+    private Duration prewarmTimeout = Duration.ofSeconds(10);
+}
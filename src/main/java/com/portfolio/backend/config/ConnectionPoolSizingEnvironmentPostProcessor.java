@@ -0,0 +1,61 @@
+package com.portfolio.backend.config;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Sizes the Hikari pools from the instance instead of fixed numbers. The
+ * maximum pool size is {@code cores * connections-per-core}, capped at the
+ * request concurrency (more connections than concurrent requests are never
+ * used) and at {@code portfolio.pool.max-size}; the minimum idle count is
+ * {@code cores * min-idle-per-core}, so quiet instances hold few connections.
+ *
+ * <p>The sizes are added as the lowest-precedence property source, so an
+ * explicit {@code spring.datasource.hikari.maximum-pool-size},
+ * {@code minimum-idle} or {@code portfolio.replica.maximum-pool-size} still wins.
+ */
+public class ConnectionPoolSizingEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final int DEFAULT_TOMCAT_MAX_THREADS = 200;
+
+    private final Log log;
+
+    public ConnectionPoolSizingEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(ConnectionPoolSizingEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        Binder binder = Binder.get(environment);
+        ConnectionPoolProperties pool = binder.bind("portfolio.pool", Bindable.of(ConnectionPoolProperties.class))
+                .orElseGet(ConnectionPoolProperties::new);
+        String type = environment.getProperty("portfolio.datasource.type", "DATABASE");
+        if (!pool.isAutosize() || DataSourceProperties.SourceType.FILE.name().equalsIgnoreCase(type.trim())) {
+            return;
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        int concurrency = pool.getRequestConcurrency() != null
+                ? pool.getRequestConcurrency()
+                : binder.bind("server.tomcat.threads.max", Integer.class).orElse(DEFAULT_TOMCAT_MAX_THREADS);
+        int maximumPoolSize = Math.max(1, Math.min(cores * pool.getConnectionsPerCore(),
+                Math.min(concurrency, pool.getMaxSize())));
+        int minimumIdle = Math.min(maximumPoolSize, cores * pool.getMinIdlePerCore());
+
+        environment.getPropertySources().addLast(new MapPropertySource("portfolioPoolSizing", Map.<String, Object>of(
+                "spring.datasource.hikari.maximum-pool-size", maximumPoolSize,
+                "spring.datasource.hikari.minimum-idle", minimumIdle,
+                "portfolio.replica.maximum-pool-size", maximumPoolSize,
+                "portfolio.replica.minimum-idle", minimumIdle)));
+        log.info(String.format("Connection pool sized for %d CPU(s), request concurrency %d: "
+                + "maximum-pool-size=%d, minimum-idle=%d", cores, concurrency, maximumPoolSize, minimumIdle));
+    }
+}
@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties(prefix = "portfolio.datasource")
 @Data
@@ -21,11 +23,42 @@ public class DataSourceProperties {
     
     private String writeBlogFilePath;
     
+    // Coalesce file writes on a background thread instead of writing on every save
+    private boolean writeBehind = false;
+    
+    private Duration writeBehindInterval = Duration.ofSeconds(1);
+    
+    // SMILE keeps a checksummed binary snapshot next to each JSON file and saves to it instead
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    
+    // Reload the JSON files when they change on disk, without a restart
+    private boolean hotReload = false;
+    
+    private Duration hotReloadDebounce = Duration.ofMillis(500);
+    
+    // DIRECTORY stores one file per post plus a manifest instead of a single blogs.json
+    private BlogLayout blogLayout = BlogLayout.SINGLE_FILE;
+    
+    private String blogDirectory = "data/blogs";
+    
+    // Post bodies kept in memory in DIRECTORY layout; the rest are read from disk on demand
+    private int blogBodyCacheSize = 500;
+    
     public enum SourceType {
         DATABASE,
         FILE
     }
     
+    public enum BlogLayout {
+        SINGLE_FILE,
+        DIRECTORY
+    }
+    
+    public enum StorageFormat {
+        JSON,
+        SMILE
+    }
+    
     public String getEffectiveWritePath() {
         return writeFilePath != null ? writeFilePath : filePath;
     }
@@ -0,0 +1,67 @@
+package com.portfolio.backend.config;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationAutoConfiguration;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps FILE mode free of the database stack. With
+ * {@code portfolio.datasource.type=FILE} the DataSource, Hibernate, Spring Data
+ * JPA repository and JDBC auto-configurations are added to
+ * {@code spring.autoconfigure.exclude}, so no connection pool is created, no
+ * metamodel is built and no PostgreSQL has to be reachable.
+ *
+ * <p>Without a transaction manager Spring Boot does not enable
+ * {@code @Transactional} proxies, so the services run their methods directly
+ * against the FILE providers. Exclusions already configured by the user are kept.
+ */
+public class FileModeEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String EXCLUDE_PROPERTY = "spring.autoconfigure.exclude";
+
+    private static final List<String> DATABASE_AUTO_CONFIGURATIONS = List.of(
+            DataSourceAutoConfiguration.class.getName(),
+            DataSourceTransactionManagerAutoConfiguration.class.getName(),
+            JdbcTemplateAutoConfiguration.class.getName(),
+            SqlInitializationAutoConfiguration.class.getName(),
+            HibernateJpaAutoConfiguration.class.getName(),
+            JpaRepositoriesAutoConfiguration.class.getName());
+
+    private final Log log;
+
+    public FileModeEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(FileModeEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        String type = environment.getProperty("portfolio.datasource.type", "DATABASE");
+        if (!DataSourceProperties.SourceType.FILE.name().equalsIgnoreCase(type.trim())) {
+            return;
+        }
+        Set<String> excludes = new LinkedHashSet<>(Binder.get(environment)
+                .bind(EXCLUDE_PROPERTY, Bindable.listOf(String.class))
+                .orElse(new ArrayList<>()));
+        excludes.addAll(DATABASE_AUTO_CONFIGURATIONS);
+        environment.getPropertySources().addFirst(new MapPropertySource("portfolioFileMode",
+                Map.of(EXCLUDE_PROPERTY, String.join(",", excludes))));
+        log.info("FILE data source - skipping DataSource, JPA and repository auto-configuration");
+    }
+}
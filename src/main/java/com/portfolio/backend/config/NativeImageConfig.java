@@ -0,0 +1,91 @@
+package com.portfolio.backend.config;
+
+import com.portfolio.backend.dto.BlogDTO;
+import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.entity.Achievement;
+import com.portfolio.backend.entity.Blog;
+import com.portfolio.backend.entity.Education;
+import com.portfolio.backend.entity.Experience;
+import com.portfolio.backend.entity.PersonalInfo;
+import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.model.PortfolioData;
+import com.portfolio.backend.provider.file.BlogManifestEntry;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Reachability metadata for the native image (see NATIVE-IMAGE.md).
+ *
+ * <p>Spring AOT already covers beans, Spring Data repositories and the JPA
+ * managed types. What it cannot see is reflection driven by our own code:
+ * <ul>
+ *   <li>Jackson binding of the data files ({@link PortfolioData}, {@link Blog},
+ *       {@link BlogManifestEntry}), registered recursively through
+ *       {@link RegisterReflectionForBinding}</li>
+ *   <li>ModelMapper, which instantiates DTOs and entities and matches their
+ *       Lombok-generated getters and setters by reflection</li>
+ *   <li>Classes Hibernate and the JDBC driver load by name from properties</li>
+ *   <li>JDK proxies around JDBC objects used for statement counting</li>
+ *   <li>Data files read from the classpath</li>
+ * </ul>
+ * The hints are harmless on the JVM, where they are never read.
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.PortfolioRuntimeHints.class)
+@RegisterReflectionForBinding({PortfolioData.class, Blog.class, BlogManifestEntry.class, BlogDTO.class, ProjectDTO.class})
+public class NativeImageConfig {
+
+    static class PortfolioRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final List<Class<?>> MAPPED_TYPES = List.of(
+                BlogDTO.class, ProjectDTO.class,
+                Achievement.class, Blog.class, Education.class, Experience.class,
+                PersonalInfo.class, Project.class, Skill.class);
+
+        // Loaded by class name from application-prod.properties and the JDBC URL
+        private static final List<String> NAMED_TYPES = List.of(
+                "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+                "org.hibernate.cache.jcache.internal.JCacheRegionFactory",
+                "com.google.cloud.sql.postgres.SocketFactory");
+
+        private static final List<Class<?>> JDBC_PROXY_TYPES = List.of(
+                Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class, ResultSet.class);
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> type : MAPPED_TYPES) {
+                hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+            for (String name : NAMED_TYPES) {
+                hints.reflection().registerTypeIfPresent(classLoader, name,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            // StatementCountingDataSource wraps JDBC objects in JDK proxies
+            for (Class<?> jdbcType : JDBC_PROXY_TYPES) {
+                hints.proxies().registerJdkProxy(jdbcType);
+            }
+
+            hints.resources()
+                    .registerPattern("portfolio-data.json")
+                    .registerPattern("blogs.json")
+                    .registerPattern("application.conf")
+                    .registerPattern("schema.sql");
+        }
+    }
+}
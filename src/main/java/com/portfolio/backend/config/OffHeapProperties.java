@@ -0,0 +1,33 @@
+package com.portfolio.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "portfolio.cache.off-heap")
+@Data
+public class OffHeapProperties {
+
+    // Keep blog content and precompressed blog responses of the caches below in direct memory, deduplicated across them
+    private boolean enabled = true;
+
+    // Direct memory for content; once full, further content stays on the heap
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    // Allocation unit; most posts fit in a few chunks
+    private DataSize chunkSize = DataSize.ofKilobytes(4);
+
+    // Direct memory is reserved in slabs of this size as content grows
+    private DataSize slabSize = DataSize.ofMegabytes(4);
+
+    private List<String> caches = new ArrayList<>(List.of(
+            CacheConfig.BLOGS_CACHE,
+            CacheConfig.PUBLISHED_BLOGS_CACHE,
+            CacheConfig.BLOG_BY_ID_CACHE,
+            CacheConfig.BLOG_PAYLOAD_BY_SLUG_CACHE));
+}
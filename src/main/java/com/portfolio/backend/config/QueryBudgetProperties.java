@@ -0,0 +1,14 @@
+package com.portfolio.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "portfolio.query-budget")
+@Data
+public class QueryBudgetProperties {
+
+    // Fail the statement that exceeds an endpoint's @QueryBudget instead of only logging it (test mode)
+    private boolean enforce = false;
+}
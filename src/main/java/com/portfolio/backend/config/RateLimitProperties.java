@@ -0,0 +1,55 @@
+package com.portfolio.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "portfolio.rate-limit")
+@Data
+public class RateLimitProperties {
+
+    // Per-client token buckets on @RateLimit endpoints (429 when empty)
+    private boolean enabled = true;
+
+    // Proxies in front of the application that append to X-Forwarded-For; 0 ignores the header and uses the peer address
+    private int trustedProxyHops = 0;
+
+    // Overrides of the @RateLimit values, keyed by Controller.method (e.g. BlogController.searchBlogs)
+    private Map<String, Limit> endpoints = new LinkedHashMap<>();
+
+    private Concurrency concurrency = new Concurrency();
+
+    @Data
+    public static class Limit {
+
+        private Integer perMinute;
+
+        private Integer burst;
+    }
+
+    @Data
+    public static class Concurrency {
+
+        // Adaptive concurrency limit across @RateLimit endpoints (503 when reached)
+        private boolean enabled = true;
+
+        private int initialLimit = 20;
+
+        private int minLimit = 2;
+
+        private int maxLimit = 100;
+
+        // Latency above the no-load latency at which the limit starts shrinking
+        private Duration queueingThreshold = Duration.ofMillis(250);
+
+        private double backoffRatio = 0.9;
+
+        // How often the no-load latency is re-learned
+        private Duration baselineWindow = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,84 @@
+package com.portfolio.backend.config;
+
+import com.portfolio.backend.datasource.ReadReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured DataSource with a primary/replica router when
+ * {@code portfolio.replica.enabled=true}. The primary pool is still configured
+ * through {@code spring.datasource.*} and {@code spring.datasource.hikari.*}.
+ * Spring Boot only binds pool metrics to DataSource beans it can unwrap to a
+ * single pool, so the primary and replica pools are registered here.
+ */
+@Configuration
+@ConditionalOnProperty(name = "portfolio.replica.enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReadReplicaRoutingDataSource replicaRoutingDataSource(
+            org.springframework.boot.autoconfigure.jdbc.DataSourceProperties springDataSourceProperties,
+            ReplicaProperties replicaProperties,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource primary = springDataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaProperties.getInstances().size(); i++) {
+            ReplicaProperties.Instance instance = replicaProperties.getInstances().get(i);
+            String key = "replica-" + i;
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(key);
+            replica.setJdbcUrl(instance.getUrl());
+            replica.setUsername(instance.getUsername() != null ? instance.getUsername() : primary.getUsername());
+            replica.setPassword(instance.getPassword() != null ? instance.getPassword() : primary.getPassword());
+            replica.setDriverClassName(primary.getDriverClassName());
+            replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            if (replicaProperties.getMinimumIdle() != null) {
+                replica.setMinimumIdle(replicaProperties.getMinimumIdle());
+            }
+            replica.setConnectionTimeout(replicaProperties.getConnectionTimeout().toMillis());
+            replica.setReadOnly(true);
+            // Let the pool start even if the replica is down; the health monitor handles it
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(key, replica);
+        }
+
+        meterRegistry.ifAvailable(registry -> {
+            MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(registry);
+            primary.setMetricsTrackerFactory(metrics);
+            replicas.values().forEach(replica -> replica.setMetricsTrackerFactory(metrics));
+        });
+
+        log.info("Routing read-only transactions across {} replica(s), max lag {}s",
+                replicas.size(), replicaProperties.getMaxLag().toSeconds());
+        return new ReadReplicaRoutingDataSource(primary, replicas,
+                replicaProperties.getMaxLag(), replicaProperties.getHealthCheckInterval());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,43 @@
+package com.portfolio.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "portfolio.replica")
+@Data
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    private List<Instance> instances = new ArrayList<>();
+
+    // Replicas further behind the primary than this are taken out of rotation
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    private int maximumPoolSize = 10;
+
+    // Defaults to maximumPoolSize, as in Hikari
+    private Integer minimumIdle;
+
+    // Kept short so a dead replica fails over quickly instead of stalling reads
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    @Data
+    public static class Instance {
+
+        private String url;
+
+        // Default to the primary's credentials when not set
+        private String username;
+
+        private String password;
+    }
+}
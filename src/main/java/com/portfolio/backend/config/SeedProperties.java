@@ -0,0 +1,21 @@
+package com.portfolio.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "portfolio.seed")
+@Data
+public class SeedProperties {
+
+    // Number of sections (tables) seeded concurrently
+    private int parallelism = 4;
+
+    // Extra generated blogs for load testing, seeded alongside the sample post
+    private int syntheticBlogs = 0;
+
+    private int syntheticContentLength = 4000;
+
+    private int batchSize = 500;
+}
@@ -0,0 +1,46 @@
+package com.portfolio.backend.config;
+
+import com.portfolio.backend.provider.file.BlogDataLoader;
+import com.portfolio.backend.provider.file.BlogDirectoryStore;
+import com.portfolio.backend.provider.file.DataFileWatcher;
+import com.portfolio.backend.provider.file.FileDataLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup tuning that has to live in code. With {@code spring.main.lazy-initialization=true}
+ * the FILE-mode data beans stay eager, so the first request does not pay for
+ * parsing the data files and the watcher starts with the context.
+ *
+ * <p>{@code portfolio.startup.exit-on-ready=true} stops the application as soon
+ * as it is ready. The CDS training run and {@code measure-startup.sh} use it.
+ * It is checked at runtime rather than through a bean condition, so AOT-processed
+ * builds honour it as well.
+ */
+@Configuration
+@Slf4j
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerDataBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                FileDataLoader.class, BlogDataLoader.class, BlogDirectoryStore.class, DataFileWatcher.class);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> exitOnReady() {
+        return event -> {
+            if (event.getApplicationContext().getEnvironment()
+                    .getProperty("portfolio.startup.exit-on-ready", Boolean.class, false)) {
+                log.info("Application ready in {} ms, exiting (portfolio.startup.exit-on-ready)",
+                        event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1);
+                System.exit(SpringApplication.exit(event.getApplicationContext()));
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.portfolio.backend.config;
+
+import com.portfolio.backend.tracing.EndpointSampler;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * OpenTelemetry setup on top of Spring Boot's tracing auto-configuration
+ * (see TRACING.md). Spans go to the OTLP collector configured under
+ * {@code management.otlp.tracing}, and optionally to the log.
+ */
+@Configuration
+public class TracingConfig {
+
+    // Replaces Boot's probability sampler with the per-endpoint one
+    @Bean
+    public Sampler otelSampler(TracingProperties tracingProperties) {
+        return Sampler.parentBased(new EndpointSampler(tracingProperties.getDefaultSampling()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "portfolio.tracing.log-spans", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
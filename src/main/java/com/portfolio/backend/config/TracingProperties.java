@@ -0,0 +1,26 @@
+package com.portfolio.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "portfolio.tracing")
+@Data
+public class TracingProperties {
+
+    // Add a Server-Timing header with per-layer durations to every response
+    private boolean serverTiming = true;
+
+    // Also write finished spans to the application log
+    private boolean logSpans = false;
+
+    // Share of requests traced when no endpoint pattern matches, and of work outside requests
+    private double defaultSampling = 0.1;
+
+    // Request path pattern (e.g. /api/blogs/slug/**) to share of requests traced; first match wins
+    private Map<String, Double> endpoints = new LinkedHashMap<>();
+}
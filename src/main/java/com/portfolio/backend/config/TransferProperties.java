@@ -0,0 +1,35 @@
+package com.portfolio.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "portfolio.transfer")
+@Data
+public class TransferProperties {
+
+    private Direction direction = Direction.NONE;
+
+    // Sources read when importing (JSON files in the FILE-mode layout)
+    private String blogSource = "classpath:blogs.json";
+
+    private String portfolioSource = "classpath:portfolio-data.json";
+
+    // Targets written when exporting
+    private String blogTarget = "data/export/blogs.json";
+
+    private String portfolioTarget = "data/export/portfolio-data.json";
+
+    private boolean includePortfolio = true;
+
+    private int batchSize = 500;
+
+    private String checkpointFile = "data/transfer.checkpoint";
+
+    public enum Direction {
+        NONE,
+        IMPORT,
+        EXPORT
+    }
+}
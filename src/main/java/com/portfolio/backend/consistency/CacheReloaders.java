@@ -0,0 +1,18 @@
+package com.portfolio.backend.consistency;
+
+import java.util.function.Consumer;
+
+/**
+ * The cached methods that background refreshes call again. A reloader calls
+ * its method through the Spring proxy with the entry's key, so the reload runs
+ * on the refresh thread with that thread's own request state and reaches the
+ * cache like any other call (see {@link VersionedCache}).
+ */
+public interface CacheReloaders {
+
+    /**
+     * Calls the method that loads entries of the cache, or null if the cache
+     * has none, in which case its entries are not refreshed.
+     */
+    Consumer<Object> reloaderOf(String cacheName);
+}
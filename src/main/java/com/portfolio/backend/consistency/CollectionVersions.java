@@ -0,0 +1,46 @@
+package com.portfolio.backend.consistency;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues a new version for a collection on every write. Versions are
+ * wall-clock millis (kept monotonic per instance) so tokens issued by one
+ * instance are meaningful to the caches of every other instance.
+ */
+@Component
+public class CollectionVersions {
+
+    public static final String BLOGS = "blogs";
+    public static final String PROJECTS = "projects";
+    public static final String PERSONAL_INFO = "personalInfo";
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Records a write to the collection. Inside a transaction the version is
+     * issued after commit, so no reader can see the version before the data.
+     */
+    public void recordWrite(String collection) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    issue(collection);
+                }
+            });
+        } else {
+            issue(collection);
+        }
+    }
+
+    private void issue(String collection) {
+        long version = versions.merge(collection, System.currentTimeMillis(),
+                (previous, now) -> Math.max(previous + 1, now));
+        ConsistencyContext.issued(collection, version);
+    }
+}
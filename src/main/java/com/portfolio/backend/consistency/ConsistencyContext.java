@@ -0,0 +1,67 @@
+package com.portfolio.backend.consistency;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-request consistency state: the collection versions the client has
+ * already seen (from its token) and the versions issued by writes made during
+ * this request. Bound to the request thread by {@link ConsistencyTokenFilter}.
+ */
+public final class ConsistencyContext {
+
+    private static final ThreadLocal<ConsistencyContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Long> required;
+    private final Map<String, Long> issued = new HashMap<>();
+    private final boolean primaryReads;
+
+    private ConsistencyContext(Map<String, Long> required, boolean primaryReads) {
+        this.required = required;
+        this.primaryReads = primaryReads;
+    }
+
+    public static void begin(Map<String, Long> required, boolean primaryReads) {
+        CURRENT.set(new ConsistencyContext(required, primaryReads));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Minimum version the caller must observe for the collection, or
+     * {@code null} when it carries no token for it.
+     */
+    public static Long requiredVersion(String collection) {
+        ConsistencyContext context = CURRENT.get();
+        return context != null ? context.required.get(collection) : null;
+    }
+
+    /**
+     * Whether reads in this request must bypass replicas because the token is
+     * newer than the replication lag bound.
+     */
+    public static boolean readsFromPrimary() {
+        ConsistencyContext context = CURRENT.get();
+        return context != null && context.primaryReads;
+    }
+
+    static void issued(String collection, long version) {
+        ConsistencyContext context = CURRENT.get();
+        if (context != null) {
+            context.issued.merge(collection, version, Math::max);
+        }
+    }
+
+    static Map<String, Long> issuedVersions() {
+        ConsistencyContext context = CURRENT.get();
+        return context != null ? Collections.unmodifiableMap(context.issued) : Map.of();
+    }
+
+    static Map<String, Long> requiredVersions() {
+        ConsistencyContext context = CURRENT.get();
+        return context != null ? context.required : Map.of();
+    }
+}
@@ -0,0 +1,43 @@
+package com.portfolio.backend.consistency;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Wire format of the consistency token: comma-separated
+ * {@code collection:version} pairs, e.g. {@code blogs:1729331234567,projects:1729331200000}.
+ */
+public final class ConsistencyToken {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    private ConsistencyToken() {
+    }
+
+    public static Map<String, Long> parse(String token) {
+        Map<String, Long> versions = new TreeMap<>();
+        if (token == null || token.isBlank()) {
+            return versions;
+        }
+        for (String part : token.split(",")) {
+            int separator = part.indexOf(':');
+            if (separator <= 0) {
+                continue;
+            }
+            try {
+                long version = Long.parseLong(part.substring(separator + 1).trim());
+                versions.merge(part.substring(0, separator).trim(), version, Math::max);
+            } catch (NumberFormatException ignored) {
+                // Malformed entries are dropped; the rest of the token still applies
+            }
+        }
+        return versions;
+    }
+
+    public static String format(Map<String, Long> versions) {
+        return new TreeMap<>(versions).entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+}
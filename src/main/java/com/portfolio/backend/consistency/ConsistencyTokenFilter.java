@@ -0,0 +1,64 @@
+package com.portfolio.backend.consistency;
+
+import com.portfolio.backend.config.ReplicaProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads the client's {@link ConsistencyToken} into the {@link ConsistencyContext}
+ * and, for writes, returns the merged token with the newly issued versions.
+ * Write responses are buffered so the header can be added after the
+ * transaction has committed.
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.consistency.enabled", havingValue = "true", matchIfMissing = true)
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    private final long replicaLagBoundMillis;
+
+    public ConsistencyTokenFilter(ReplicaProperties replicaProperties) {
+        this.replicaLagBoundMillis = replicaProperties.isEnabled() ? replicaProperties.getMaxLag().toMillis() : 0;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Map<String, Long> required = ConsistencyToken.parse(request.getHeader(ConsistencyToken.HEADER));
+        long replicaSafeBefore = System.currentTimeMillis() - replicaLagBoundMillis;
+        boolean primaryReads = required.values().stream().anyMatch(version -> version > replicaSafeBefore);
+        ConsistencyContext.begin(required, primaryReads);
+
+        try {
+            if (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())) {
+                // A token can make a read bypass a stale cache entry, so shared HTTP caches must key on it
+                response.addHeader(HttpHeaders.VARY, ConsistencyToken.HEADER);
+                chain.doFilter(request, response);
+                return;
+            }
+
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            chain.doFilter(request, wrapper);
+            Map<String, Long> issued = ConsistencyContext.issuedVersions();
+            if (!issued.isEmpty()) {
+                Map<String, Long> token = new HashMap<>(ConsistencyContext.requiredVersions());
+                issued.forEach((collection, version) -> token.merge(collection, version, Math::max));
+                wrapper.setHeader(ConsistencyToken.HEADER, ConsistencyToken.format(token));
+            }
+            wrapper.copyBodyToResponse();
+        } finally {
+            ConsistencyContext.end();
+        }
+    }
+}
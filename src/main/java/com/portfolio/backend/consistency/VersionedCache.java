@@ -0,0 +1,277 @@
+package com.portfolio.backend.consistency;
+
+import com.portfolio.backend.tracing.RequestTiming;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Cache decorator that stamps each entry with the time its load started and
+ * treats it as a miss for callers whose consistency token requires a newer
+ * version of the entry's collection. The refreshed value then replaces the
+ * stale one for everybody, so global TTLs stay untouched.
+ *
+ * <p>Loads through {@link #get(Object, Callable)} ({@code @Cacheable(sync = true)})
+ * are coalesced: concurrent misses on the same key wait for the one load in
+ * flight and complete from its {@link CompletableFuture}, value or exception,
+ * unless their consistency token needs a newer version than that load can give.
+ *
+ * <p>With a refresh interval, a read through {@link #get(Object, Callable)} of an
+ * entry older than the interval still returns it, and reloads it on the refresh
+ * executor by calling the cache's method again through its proxy (see
+ * {@link CacheReloaders}). That call comes back to this cache on the refresh
+ * thread, which loads it as a miss. A background reload counts as the key's
+ * load in flight, so it is never run twice at once.
+ */
+@Slf4j
+public class VersionedCache implements Cache {
+
+    record VersionedValue(Object value, long freshAsOf, long loadedAt) {
+    }
+
+    private record Load(CompletableFuture<Object> result, long freshAsOf) {
+    }
+
+    // A miss through get(key) whose value the caller will put once it has loaded it
+    private record Miss(Object key, long startedAt) {
+    }
+
+    // The reload a refresh thread is running, which its call through the proxy completes
+    private record Refresh(Object key, Load load) {
+    }
+
+    private final Cache delegate;
+    private final String collection;
+    private final long replicaLagBoundMillis;
+    private final ThreadLocal<Miss> pendingMiss = new ThreadLocal<>();
+    private final ConcurrentMap<Object, Load> inFlight = new ConcurrentHashMap<>();
+    private final ThreadLocal<Refresh> refreshing = new ThreadLocal<>();
+    private final long refreshAfterMillis;
+    private final Supplier<CacheReloaders> reloaders;
+    private final Executor refreshExecutor;
+    private final Counter loads;
+    private final Counter coalesced;
+    private final Counter refreshes;
+
+    public VersionedCache(Cache delegate, String collection, long replicaLagBoundMillis, Duration refreshAfterWrite,
+                          Supplier<CacheReloaders> reloaders, Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.collection = collection;
+        this.replicaLagBoundMillis = replicaLagBoundMillis;
+        this.refreshAfterMillis = refreshAfterWrite != null ? refreshAfterWrite.toMillis() : 0;
+        this.reloaders = reloaders;
+        this.refreshExecutor = refreshExecutor;
+        this.loads = Counter.builder("portfolio.cache.loads")
+                .description("Cache misses that ran the underlying load")
+                .tag("cache", delegate.getName())
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("portfolio.cache.coalesced")
+                .description("Cache misses served by another caller's load of the same key")
+                .tag("cache", delegate.getName())
+                .register(meterRegistry);
+        this.refreshes = Counter.builder("portfolio.cache.refreshes")
+                .description("Entries reloaded in the background after the refresh interval")
+                .tag("cache", delegate.getName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        long startedAt = System.currentTimeMillis();
+        VersionedValue stored = lookup(key);
+        if (stored == null) {
+            pendingMiss.set(new Miss(key, startedAt));
+            return null;
+        }
+        return new SimpleValueWrapper(stored.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Refresh refresh = refreshing.get();
+        if (refresh != null && refresh.key().equals(key)) {
+            return (T) load(key, valueLoader, refresh.load());
+        }
+        long startedAt = System.currentTimeMillis();
+        VersionedValue stored = lookup(key);
+        if (stored != null) {
+            if (refreshAfterMillis > 0 && System.currentTimeMillis() - stored.loadedAt() >= refreshAfterMillis) {
+                refresh(key);
+            }
+            return (T) stored.value();
+        }
+        Load load = new Load(new CompletableFuture<>(), freshAsOf(startedAt));
+        Load leader = inFlight.putIfAbsent(key, load);
+        if (leader != null && isFreshEnough(leader.freshAsOf())) {
+            coalesced.increment();
+            return (T) await(key, valueLoader, leader.result());
+        }
+        // Either the first miss on this key, or the load in flight is too old for this caller
+        loads.increment();
+        try {
+            return load(key, valueLoader, load);
+        } finally {
+            if (leader == null) {
+                inFlight.remove(key, load);
+            }
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        // Only the miss on this key dates the value; any other is left over from a load that never put
+        Miss miss = pendingMiss.get();
+        try {
+            long startedAt = miss != null && miss.key().equals(key) ? miss.startedAt() : System.currentTimeMillis();
+            store(key, value, freshAsOf(startedAt));
+        } finally {
+            pendingMiss.remove();
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * The cached value inside an entry of the native cache, for code that works
+     * on the delegate directly, such as weighers.
+     */
+    public static Object unwrap(Object stored) {
+        return stored instanceof VersionedValue versioned ? versioned.value() : stored;
+    }
+
+    private VersionedValue lookup(Object key) {
+        ValueWrapper wrapper;
+        try (RequestTiming.Scope timing = RequestTiming.enter(RequestTiming.CACHE)) {
+            wrapper = delegate.get(key);
+        }
+        if (wrapper == null || !(wrapper.get() instanceof VersionedValue stored) || !isFreshEnough(stored.freshAsOf())) {
+            return null;
+        }
+        return stored;
+    }
+
+    private void store(Object key, Object value, long freshAsOf) {
+        try (RequestTiming.Scope timing = RequestTiming.enter(RequestTiming.CACHE)) {
+            delegate.put(key, new VersionedValue(value, freshAsOf, System.currentTimeMillis()));
+        }
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader, Load load) {
+        try {
+            T value = valueLoader.call();
+            store(key, value, load.freshAsOf());
+            load.result().complete(value);
+            return value;
+        } catch (Throwable e) {
+            load.result().completeExceptionally(e);
+            if (e instanceof Error error) {
+                throw error;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * Reloads the entry in the background unless a load of the key is already
+     * in flight or the cache has no method to reload it with. On failure the
+     * current value stays until it expires.
+     */
+    private void refresh(Object key) {
+        CacheReloaders cacheReloaders = reloaders.get();
+        Consumer<Object> reloader = cacheReloaders != null ? cacheReloaders.reloaderOf(getName()) : null;
+        if (reloader == null) {
+            return;
+        }
+        // Runs outside the request, so it may read from a replica
+        Load load = new Load(new CompletableFuture<>(), System.currentTimeMillis() - replicaLagBoundMillis);
+        if (inFlight.putIfAbsent(key, load) != null) {
+            return;
+        }
+        refreshes.increment();
+        try {
+            refreshExecutor.execute(() -> {
+                refreshing.set(new Refresh(key, load));
+                try {
+                    reloader.accept(key);
+                } catch (RuntimeException e) {
+                    log.warn("Background refresh of {} in cache {} failed: {}", key, getName(), e.toString());
+                } finally {
+                    refreshing.remove();
+                    inFlight.remove(key, load);
+                    // Callers that joined must not wait forever if the call never reached this cache
+                    load.result().completeExceptionally(
+                            new IllegalStateException("Refresh of " + key + " did not reach cache " + getName()));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, load);
+        }
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private boolean isFreshEnough(long freshAsOf) {
+        Long required = collection != null ? ConsistencyContext.requiredVersion(collection) : null;
+        return required == null || freshAsOf >= required;
+    }
+
+    // A value read from a replica may be up to the lag bound behind its load time
+    private long freshAsOf(long loadStart) {
+        return ConsistencyContext.readsFromPrimary() ? loadStart : loadStart - replicaLagBoundMillis;
+    }
+}
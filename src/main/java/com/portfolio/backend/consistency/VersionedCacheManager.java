@@ -0,0 +1,63 @@
+package com.portfolio.backend.consistency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Wraps every cache of the delegate manager in a {@link VersionedCache} bound
+ * to the collection its entries are derived from, with the cache's refresh
+ * interval if it has one. The reloaders are looked up when a refresh is due,
+ * since they call services that are created after the cache manager.
+ */
+public class VersionedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, String> collectionByCache;
+    private final long replicaLagBoundMillis;
+    private final Map<String, Duration> refreshByCache;
+    private final Supplier<CacheReloaders> reloaders;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public VersionedCacheManager(CacheManager delegate, Map<String, String> collectionByCache,
+                                 long replicaLagBoundMillis, Map<String, Duration> refreshByCache,
+                                 Supplier<CacheReloaders> reloaders, Executor refreshExecutor,
+                                 MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.collectionByCache = collectionByCache;
+        this.replicaLagBoundMillis = replicaLagBoundMillis;
+        this.refreshByCache = refreshByCache;
+        this.reloaders = reloaders;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache cache = delegate.getCache(cacheName);
+            return cache != null
+                    ? new VersionedCache(cache, collectionByCache.get(cacheName), replicaLagBoundMillis,
+                            refreshByCache.get(cacheName), reloaders, refreshExecutor, meterRegistry)
+                    : null;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+}
@@ -1,6 +1,7 @@
 package com.portfolio.backend.controller;
 
 import com.portfolio.backend.entity.Achievement;
+import com.portfolio.backend.querycount.QueryBudget;
 import com.portfolio.backend.service.AchievementService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +16,7 @@ public class AchievementController {
 
     private final AchievementService achievementService;
 
+    @QueryBudget(1)
     @GetMapping
     public ResponseEntity<List<Achievement>> getAllAchievements() {
         return ResponseEntity.ok(achievementService.getAllAchievements());
@@ -1,11 +1,17 @@
 package com.portfolio.backend.controller;
 
 import com.portfolio.backend.dto.BlogDTO;
+import com.portfolio.backend.dto.PrecompressedResponse;
+import com.portfolio.backend.querycount.QueryBudget;
+import com.portfolio.backend.ratelimit.RateLimit;
 import com.portfolio.backend.service.BlogService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,6 +22,7 @@ public class BlogController {
 
     private final BlogService blogService;
 
+    @QueryBudget(1)
     @GetMapping
     public ResponseEntity<List<BlogDTO>> getAllBlogs(@RequestParam(required = false) Boolean published) {
         if (Boolean.TRUE.equals(published)) {
@@ -24,32 +31,55 @@ public class BlogController {
         return ResponseEntity.ok(blogService.getAllBlogs());
     }
 
+    @QueryBudget(1)
     @GetMapping("/{id}")
     public ResponseEntity<BlogDTO> getBlogById(@PathVariable Long id) {
         return ResponseEntity.ok(blogService.getBlogById(id));
     }
 
+    @QueryBudget(1)
     @GetMapping("/slug/{slug}")
-    public ResponseEntity<BlogDTO> getBlogBySlug(@PathVariable String slug) {
-        return ResponseEntity.ok(blogService.getBlogBySlug(slug));
+    public ResponseEntity<byte[]> getBlogBySlug(@PathVariable String slug,
+                                                @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                WebRequest request) {
+        // Serves the bytes precompressed by BlogService; no per-request serialization or compression
+        PrecompressedResponse payload = blogService.getBlogPayloadBySlug(slug);
+        boolean gzip = PrecompressedResponse.acceptsGzip(acceptEncoding);
+        String etag = gzip ? payload.gzipEtag() : payload.identityEtag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        return response.body(payload.identity());
     }
 
+    @QueryBudget(1)
+    @RateLimit(perMinute = 60, burst = 20)
     @GetMapping("/search")
     public ResponseEntity<List<BlogDTO>> searchBlogs(@RequestParam String query) {
         return ResponseEntity.ok(blogService.searchBlogs(query));
     }
 
+    @RateLimit(perMinute = 30, burst = 10)
     @PostMapping
     public ResponseEntity<BlogDTO> createBlog(@RequestBody BlogDTO blogDTO) {
         BlogDTO createdBlog = blogService.createBlog(blogDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdBlog);
     }
 
+    @RateLimit(perMinute = 30, burst = 10)
     @PutMapping("/{id}")
     public ResponseEntity<BlogDTO> updateBlog(@PathVariable Long id, @RequestBody BlogDTO blogDTO) {
         return ResponseEntity.ok(blogService.updateBlog(id, blogDTO));
     }
 
+    @RateLimit(perMinute = 30, burst = 10)
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBlog(@PathVariable Long id) {
         blogService.deleteBlog(id);
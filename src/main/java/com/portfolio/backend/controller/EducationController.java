@@ -1,6 +1,7 @@
 package com.portfolio.backend.controller;
 
 import com.portfolio.backend.entity.Education;
+import com.portfolio.backend.querycount.QueryBudget;
 import com.portfolio.backend.service.EducationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +16,7 @@ public class EducationController {
 
     private final EducationService educationService;
 
+    @QueryBudget(1)
     @GetMapping
     public ResponseEntity<List<Education>> getAllEducation() {
         return ResponseEntity.ok(educationService.getAllEducation());
@@ -1,6 +1,7 @@
 package com.portfolio.backend.controller;
 
 import com.portfolio.backend.entity.Experience;
+import com.portfolio.backend.querycount.QueryBudget;
 import com.portfolio.backend.service.ExperienceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +16,7 @@ public class ExperienceController {
 
     private final ExperienceService experienceService;
 
+    @QueryBudget(1)
     @GetMapping
     public ResponseEntity<List<Experience>> getAllExperiences() {
         return ResponseEntity.ok(experienceService.getAllExperiences());
@@ -1,6 +1,8 @@
 package com.portfolio.backend.controller;
 
 import com.portfolio.backend.entity.PersonalInfo;
+import com.portfolio.backend.querycount.QueryBudget;
+import com.portfolio.backend.ratelimit.RateLimit;
 import com.portfolio.backend.service.PersonalInfoService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -13,11 +15,13 @@ public class PersonalInfoController {
 
     private final PersonalInfoService personalInfoService;
 
+    @QueryBudget(1)
     @GetMapping
     public ResponseEntity<PersonalInfo> getPersonalInfo() {
         return ResponseEntity.ok(personalInfoService.getPersonalInfo());
     }
 
+    @RateLimit(perMinute = 30, burst = 10)
     @PutMapping
     public ResponseEntity<PersonalInfo> updatePersonalInfo(@RequestBody PersonalInfo personalInfo) {
         return ResponseEntity.ok(personalInfoService.updatePersonalInfo(personalInfo));
@@ -1,6 +1,8 @@
 package com.portfolio.backend.controller;
 
 import com.portfolio.backend.dto.ProjectDTO;
+import com.portfolio.backend.querycount.QueryBudget;
+import com.portfolio.backend.ratelimit.RateLimit;
 import com.portfolio.backend.service.ProjectService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -16,6 +18,7 @@ public class ProjectController {
 
     private final ProjectService projectService;
 
+    @QueryBudget(1)
     @GetMapping
     public ResponseEntity<List<ProjectDTO>> getAllProjects(@RequestParam(required = false) Boolean featured) {
         if (Boolean.TRUE.equals(featured)) {
@@ -24,22 +27,26 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.getAllProjects());
     }
 
+    @QueryBudget(1)
     @GetMapping("/{id}")
     public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id) {
         return ResponseEntity.ok(projectService.getProjectById(id));
     }
 
+    @RateLimit(perMinute = 30, burst = 10)
     @PostMapping
     public ResponseEntity<ProjectDTO> createProject(@RequestBody ProjectDTO projectDTO) {
         ProjectDTO createdProject = projectService.createProject(projectDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdProject);
     }
 
+    @RateLimit(perMinute = 30, burst = 10)
     @PutMapping("/{id}")
     public ResponseEntity<ProjectDTO> updateProject(@PathVariable Long id, @RequestBody ProjectDTO projectDTO) {
         return ResponseEntity.ok(projectService.updateProject(id, projectDTO));
     }
 
+    @RateLimit(perMinute = 30, burst = 10)
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
         projectService.deleteProject(id);
@@ -1,6 +1,7 @@
 package com.portfolio.backend.controller;
 
 import com.portfolio.backend.entity.Skill;
+import com.portfolio.backend.querycount.QueryBudget;
 import com.portfolio.backend.service.SkillService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +16,7 @@ public class SkillController {
 
     private final SkillService skillService;
 
+    @QueryBudget(1)
     @GetMapping
     public ResponseEntity<List<Skill>> getAllSkills() {
         return ResponseEntity.ok(skillService.getAllSkills());
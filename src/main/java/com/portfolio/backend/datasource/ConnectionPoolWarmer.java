@@ -0,0 +1,118 @@
+package com.portfolio.backend.datasource;
+
+import com.portfolio.backend.config.ConnectionPoolProperties;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opens each pool's minimum idle connections during startup. It runs as a
+ * lifecycle phase before the web server's, so the port - and with it Cloud Run's
+ * startup probe and the readiness state - only opens once the first requests
+ * no longer have to wait for connections to be established.
+ *
+ * <p>A pool that cannot reach its minimum within {@code portfolio.pool.prewarm-timeout}
+ * is logged and left to fill in the background; startup is not failed.
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "DATABASE", matchIfMissing = true)
+@Slf4j
+public class ConnectionPoolWarmer implements SmartLifecycle {
+
+    // The web server starts in phase Integer.MAX_VALUE - 2048
+    private static final int PHASE = 0;
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final ObjectProvider<ReadReplicaRoutingDataSource> replicaRoutingDataSource;
+    private final ConnectionPoolProperties poolProperties;
+    private volatile boolean running;
+
+    public ConnectionPoolWarmer(ObjectProvider<DataSource> dataSource,
+                                ObjectProvider<ReadReplicaRoutingDataSource> replicaRoutingDataSource,
+                                ConnectionPoolProperties poolProperties) {
+        this.dataSource = dataSource;
+        this.replicaRoutingDataSource = replicaRoutingDataSource;
+        this.poolProperties = poolProperties;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!poolProperties.isPrewarm()) {
+            return;
+        }
+        for (HikariDataSource pool : pools()) {
+            warm(pool);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private List<HikariDataSource> pools() {
+        List<HikariDataSource> pools = new ArrayList<>();
+        ReadReplicaRoutingDataSource router = replicaRoutingDataSource.getIfAvailable();
+        if (router != null) {
+            pools.add(router.getPrimary());
+            pools.addAll(router.getReplicas().values());
+            return pools;
+        }
+        DataSource primary = dataSource.getIfAvailable();
+        HikariDataSource hikari = primary != null
+                ? DataSourceUnwrapper.unwrap(primary, HikariConfigMXBean.class, HikariDataSource.class)
+                : null;
+        if (hikari != null) {
+            pools.add(hikari);
+        }
+        return pools;
+    }
+
+    private void warm(HikariDataSource pool) {
+        long start = System.nanoTime();
+        long deadline = start + poolProperties.getPrewarmTimeout().toNanos();
+        // The first connection starts the pool; Hikari then fills it up to minimum-idle
+        try (Connection ignored = pool.getConnection()) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            while (mxBean.getTotalConnections() < pool.getMinimumIdle() && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            int total = mxBean.getTotalConnections();
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            if (total < pool.getMinimumIdle()) {
+                log.warn("Connection pool {} opened {} of {} connections within {} ms, filling in the background",
+                        pool.getPoolName(), total, pool.getMinimumIdle(), millis);
+            } else {
+                log.info("Connection pool {} warmed: {} connection(s) in {} ms",
+                        pool.getPoolName(), total, millis);
+            }
+        } catch (SQLException e) {
+            log.warn("Could not pre-warm connection pool {}: {}", pool.getPoolName(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.portfolio.backend.datasource;
+
+import com.portfolio.backend.consistency.ConsistencyContext;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends work inside a {@code @Transactional(readOnly = true)} transaction to a
+ * healthy replica and everything else to the primary. Must be wrapped in a
+ * {@code LazyConnectionDataSourceProxy}: the read-only flag is only set after
+ * the transaction manager has asked for its connection.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final ReplicaHealthMonitor healthMonitor;
+
+    public ReadReplicaRoutingDataSource(HikariDataSource primary, Map<String, HikariDataSource> replicas,
+                                        Duration maxLag, Duration healthCheckInterval) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.healthMonitor = new ReplicaHealthMonitor(Map.copyOf(replicas), maxLag, healthCheckInterval);
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ConsistencyContext.readsFromPrimary()) {
+            return PRIMARY;
+        }
+        String replica = healthMonitor.nextHealthyReplica();
+        return replica != null ? replica : PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            // Fail over immediately; the monitor re-admits the replica once it recovers
+            healthMonitor.markDown(key, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    public Map<String, HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    public ReplicaHealthMonitor getHealthMonitor() {
+        return healthMonitor;
+    }
+
+    @Override
+    public void close() {
+        healthMonitor.close();
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
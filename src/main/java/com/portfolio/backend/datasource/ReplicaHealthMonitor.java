@@ -0,0 +1,115 @@
+package com.portfolio.backend.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Periodically probes each replica for reachability and replication lag and
+ * keeps the set of replicas that may serve reads. A replica is healthy when
+ * the probe succeeds and it is no more than {@code maxLag} behind the primary.
+ */
+@Slf4j
+public class ReplicaHealthMonitor implements AutoCloseable {
+
+    // Zero when the replica has replayed everything it received; otherwise the
+    // age of the last replayed transaction. NULL (not in recovery) counts as zero.
+    private static final String LAG_SQL = """
+            SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                                 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END, 0)
+            """;
+
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Duration maxLag;
+    private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaHealthMonitor(Map<String, DataSource> replicas, Duration maxLag, Duration interval) {
+        this.replicas = replicas;
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.maxLag = maxLag;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkAll();
+        scheduler.scheduleWithFixedDelay(this::checkAll, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Round-robins over the healthy replicas, or returns {@code null} when none
+     * can serve reads and the caller should use the primary.
+     */
+    public String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (Boolean.TRUE.equals(healthy.get(key))) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    public void markDown(String key, SQLException cause) {
+        if (!Boolean.FALSE.equals(healthy.put(key, false))) {
+            log.warn("Replica {} failed to provide a connection, routing reads to the primary: {}", key, cause.getMessage());
+        }
+    }
+
+    public Map<String, Double> getLagSeconds() {
+        return Map.copyOf(lagSeconds);
+    }
+
+    private void checkAll() {
+        replicas.forEach(this::check);
+    }
+
+    private void check(String key, DataSource replica) {
+        boolean wasHealthy = Boolean.TRUE.equals(healthy.get(key));
+        boolean nowHealthy;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            rs.next();
+            double lag = rs.getDouble(1);
+            lagSeconds.put(key, lag);
+            nowHealthy = lag <= maxLag.toMillis() / 1000.0;
+            if (!nowHealthy && wasHealthy) {
+                log.warn("Replica {} is {}s behind the primary (max {}s), taking it out of rotation",
+                        key, lag, maxLag.toSeconds());
+            }
+        } catch (SQLException e) {
+            nowHealthy = false;
+            if (wasHealthy) {
+                log.warn("Replica {} health check failed: {}", key, e.getMessage());
+            }
+        }
+        if (nowHealthy && !wasHealthy) {
+            log.info("Replica {} is healthy, routing reads to it", key);
+        }
+        healthy.put(key, nowHealthy);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,83 @@
+package com.portfolio.backend.dto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HexFormat;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A JSON response body serialized and gzip-compressed once, when it is cached,
+ * so serving it only copies bytes. Compression runs at the highest level since
+ * its cost is paid once per edit rather than once per request.
+ *
+ * <p>Each encoding has its own strong ETag, as required for representations
+ * that differ byte-for-byte; shared caches key them apart through
+ * {@code Vary: Accept-Encoding}.
+ */
+public record PrecompressedResponse(byte[] identity, byte[] gzip, String identityEtag, String gzipEtag) {
+
+    public static PrecompressedResponse of(byte[] json) {
+        String tag = tag(json);
+        return new PrecompressedResponse(json, gzip(json), "\"" + tag + "\"", "\"" + tag + "-gzip\"");
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header admits gzip. An explicit
+     * {@code gzip} entry wins over {@code *}; {@code q=0} refuses the coding.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip")) {
+                gzipQuality = quality(parts);
+            } else if (name.equals("*")) {
+                wildcardQuality = quality(parts);
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(content.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String tag(byte[] content) {
+        CRC32C crc = new CRC32C();
+        crc.update(content);
+        return HexFormat.of().toHexDigits(crc.getValue()) + "-" + Integer.toHexString(content.length);
+    }
+}
@@ -1,6 +1,8 @@
 package com.portfolio.backend.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -9,6 +11,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "blogs")
 @Data
 @NoArgsConstructor
@@ -32,14 +36,17 @@ public class Blog {
     private String content;
 
     @Column(nullable = false)
+    @Convert(converter = CanonicalAuthorConverter.class)
     private String author;
 
     @Column(nullable = false)
     private LocalDateTime date;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @CollectionTable(name = "blog_tags", joinColumns = @JoinColumn(name = "blog_id"))
     @Column(name = "tag")
+    @Convert(converter = CanonicalTagConverter.class)
     private List<String> tags = new ArrayList<>();
 
     @Column(name = "read_time")
@@ -0,0 +1,23 @@
+package com.portfolio.backend.entity;
+
+import com.portfolio.backend.model.TagDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * The author counterpart of {@link CanonicalTagConverter}: hands Hibernate the
+ * canonical instance of a post's author from the author dictionary.
+ */
+@Converter
+public class CanonicalAuthorConverter implements AttributeConverter<String, String> {
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return attribute;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return TagDictionary.author(dbData);
+    }
+}
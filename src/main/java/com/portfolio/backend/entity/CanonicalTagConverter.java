@@ -0,0 +1,24 @@
+package com.portfolio.backend.entity;
+
+import com.portfolio.backend.model.TagDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Hands Hibernate the canonical instance of each tag as rows are read, so
+ * entities loaded from the database share them like the FILE loaders do
+ * (see {@link TagDictionary}). The column value itself is unchanged.
+ */
+@Converter
+public class CanonicalTagConverter implements AttributeConverter<String, String> {
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return attribute;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return TagDictionary.tag(dbData);
+    }
+}
@@ -1,6 +1,8 @@
 package com.portfolio.backend.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,6 +10,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "experiences")
 @Data
 @NoArgsConstructor
@@ -30,6 +34,7 @@ public class Experience {
     private String duration;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @CollectionTable(name = "experience_descriptions", joinColumns = @JoinColumn(name = "experience_id"))
     @Column(name = "description", columnDefinition = "TEXT")
     private List<String> description = new ArrayList<>();
@@ -1,22 +1,45 @@
 package com.portfolio.backend.initializer;
 
+import com.portfolio.backend.config.SeedProperties;
 import com.portfolio.backend.entity.*;
 import com.portfolio.backend.repository.*;
+import com.portfolio.backend.transfer.BlogBatchWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Component
+@ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "DATABASE", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class DataInitializer implements CommandLineRunner {
 
+    private static final String POPULATED_TABLES_SQL = """
+            SELECT EXISTS (SELECT 1 FROM personal_info) AS personal_info,
+                   EXISTS (SELECT 1 FROM skills) AS skills,
+                   EXISTS (SELECT 1 FROM projects) AS projects,
+                   EXISTS (SELECT 1 FROM achievements) AS achievements,
+                   EXISTS (SELECT 1 FROM experiences) AS experiences,
+                   EXISTS (SELECT 1 FROM education) AS education,
+                   EXISTS (SELECT 1 FROM blogs) AS blogs
+            """;
+
+    private static final List<String> SYNTHETIC_TAGS = List.of(
+            "Java", "Spring Boot", "PostgreSQL", "Performance", "Architecture", "Cloud", "Testing", "DevOps");
+
     private final PersonalInfoRepository personalInfoRepository;
     private final BlogRepository blogRepository;
     private final ProjectRepository projectRepository;
@@ -24,6 +47,9 @@ public class DataInitializer implements CommandLineRunner {
     private final SkillRepository skillRepository;
     private final ExperienceRepository experienceRepository;
     private final EducationRepository educationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlogBatchWriter blogBatchWriter;
+    private final SeedProperties seedProperties;
     private final Environment environment;
 
     @Override
@@ -38,53 +64,37 @@ public class DataInitializer implements CommandLineRunner {
         }
         
         log.info("Development environment - starting data initialization...");
-        
-        // Only initialize if database is empty
-        if (personalInfoRepository.count() == 0) {
-            initializePersonalInfo();
-        } else {
-            log.info("Personal info already exists, skipping initialization");
-        }
-        
-        if (skillRepository.count() == 0) {
-            initializeSkills();
-        } else {
-            log.info("Skills already exist, skipping initialization");
-        }
-        
-        if (projectRepository.count() == 0) {
-            initializeProjects();
-        } else {
-            log.info("Projects already exist, skipping initialization");
-        }
-        
-        if (achievementRepository.count() == 0) {
-            initializeAchievements();
-        } else {
-            log.info("Achievements already exist, skipping initialization");
-        }
-        
-        if (experienceRepository.count() == 0) {
-            initializeExperiences();
-        } else {
-            log.info("Experiences already exist, skipping initialization");
-        }
-        
-        if (educationRepository.count() == 0) {
-            initializeEducation();
-        } else {
-            log.info("Education already exists, skipping initialization");
-        }
-        
-        if (blogRepository.count() == 0) {
-            initializeBlogs();
-        } else {
-            log.info("Blogs already exist, skipping initialization");
+
+        // One round-trip tells us which tables still need seeding
+        Map<String, Object> populated = jdbcTemplate.queryForMap(POPULATED_TABLES_SQL);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, seedProperties.getParallelism()));
+        try {
+            List<CompletableFuture<Void>> sections = new ArrayList<>();
+            seed(sections, executor, populated, "personal_info", "Personal info", this::initializePersonalInfo);
+            seed(sections, executor, populated, "skills", "Skills", this::initializeSkills);
+            seed(sections, executor, populated, "projects", "Projects", this::initializeProjects);
+            seed(sections, executor, populated, "achievements", "Achievements", this::initializeAchievements);
+            seed(sections, executor, populated, "experiences", "Experiences", this::initializeExperiences);
+            seed(sections, executor, populated, "education", "Education", this::initializeEducation);
+            seed(sections, executor, populated, "blogs", "Blogs", this::initializeBlogs);
+            CompletableFuture.allOf(sections.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
         }
         
         log.info("Data initialization completed!");
     }
 
+    private void seed(List<CompletableFuture<Void>> sections, ExecutorService executor, Map<String, Object> populated,
+                      String table, String label, Runnable initializer) {
+        if (Boolean.TRUE.equals(populated.get(table))) {
+            log.info("{} already populated, skipping initialization", label);
+            return;
+        }
+        sections.add(CompletableFuture.runAsync(initializer, executor));
+    }
+
     private void initializePersonalInfo() {
         PersonalInfo personalInfo = new PersonalInfo();
         personalInfo.setName("Your Name");
@@ -282,5 +292,47 @@ public class DataInitializer implements CommandLineRunner {
         
         blogRepository.save(blog);
         log.info("Sample blog initialized");
+
+        if (seedProperties.getSyntheticBlogs() > 0) {
+            initializeSyntheticBlogs(seedProperties.getSyntheticBlogs());
+        }
+    }
+
+    private void initializeSyntheticBlogs(int count) {
+        String content = syntheticContent(seedProperties.getSyntheticContentLength());
+        LocalDateTime now = LocalDateTime.now();
+        List<Blog> batch = new ArrayList<>(seedProperties.getBatchSize());
+        for (int i = 1; i <= count; i++) {
+            Blog blog = new Blog();
+            blog.setTitle("Synthetic Post " + i);
+            blog.setSlug("synthetic-post-" + i);
+            blog.setExcerpt("Generated post " + i + " for load testing.");
+            blog.setContent(content);
+            blog.setAuthor("Load Test");
+            blog.setDate(now.minusHours(i));
+            blog.setTags(List.of(SYNTHETIC_TAGS.get(i % SYNTHETIC_TAGS.size()),
+                    SYNTHETIC_TAGS.get((i + 3) % SYNTHETIC_TAGS.size())));
+            blog.setReadTime(Math.max(1, content.length() / 1200) + " min read");
+            blog.setPublished(i % 10 != 0);
+            batch.add(blog);
+            if (batch.size() == seedProperties.getBatchSize()) {
+                blogBatchWriter.upsert(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            blogBatchWriter.upsert(batch);
+        }
+        log.info("Synthetic blogs initialized: {}", count);
+    }
+
+    private String syntheticContent(int length) {
+        String paragraph = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. "
+                + "Sed do eiusmod tempor incididunt ut labore et dolore magna aliqua.\n\n";
+        StringBuilder content = new StringBuilder(length + paragraph.length());
+        while (content.length() < length) {
+            content.append(paragraph);
+        }
+        return content.substring(0, length);
     }
 }
@@ -0,0 +1,90 @@
+package com.portfolio.backend.model;
+
+import com.portfolio.backend.entity.Blog;
+import com.portfolio.backend.entity.Project;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical copies of the small strings that repeat across a whole archive -
+ * tags and authors - so thousands of posts share one instance of "Java" and
+ * one of the author's name instead of each holding its own. Tag lists are
+ * replaced with compact immutable lists, and identical lists are shared too.
+ *
+ * <p>Tags, authors and tag lists each have their own bounded dictionary, so a
+ * flood of one cannot crowd out the others. Past its bound a value is still
+ * compacted but no longer shared, so a pathological archive cannot grow them
+ * without limit.
+ */
+public final class TagDictionary {
+
+    // Distinct tags are in the hundreds and authors in the tens for any real archive
+    static final int MAX_TAGS = 50_000;
+    static final int MAX_AUTHORS = 10_000;
+    static final int MAX_TAG_LISTS = 50_000;
+
+    private static final Map<String, String> TAGS = new ConcurrentHashMap<>();
+    private static final Map<String, String> AUTHORS = new ConcurrentHashMap<>();
+    private static final Map<List<String>, List<String>> TAG_LISTS = new ConcurrentHashMap<>();
+
+    private TagDictionary() {
+    }
+
+    public static String tag(String tag) {
+        return canonical(TAGS, MAX_TAGS, tag);
+    }
+
+    public static String author(String author) {
+        return canonical(AUTHORS, MAX_AUTHORS, author);
+    }
+
+    /**
+     * An immutable list of canonical tags, shared with every other post that
+     * has the same tags in the same order. Null tags are dropped.
+     */
+    public static List<String> tags(List<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return List.of();
+        }
+        List<String> canonical = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            if (tag != null) {
+                canonical.add(tag(tag));
+            }
+        }
+        List<String> compact = List.copyOf(canonical);
+        if (TAG_LISTS.size() >= MAX_TAG_LISTS) {
+            List<String> existing = TAG_LISTS.get(compact);
+            return existing != null ? existing : compact;
+        }
+        List<String> existing = TAG_LISTS.putIfAbsent(compact, compact);
+        return existing != null ? existing : compact;
+    }
+
+    public static void canonicalize(Blog blog) {
+        blog.setAuthor(author(blog.getAuthor()));
+        blog.setTags(tags(blog.getTags()));
+    }
+
+    public static void canonicalize(Project project) {
+        project.setTags(tags(project.getTags()));
+    }
+
+    private static String canonical(Map<String, String> dictionary, int maxSize, String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = dictionary.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (dictionary.size() >= maxSize) {
+            return value;
+        }
+        existing = dictionary.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+}
@@ -0,0 +1,42 @@
+package com.portfolio.backend.offheap;
+
+import com.portfolio.backend.dto.BlogDTO;
+
+/**
+ * What a blog cache holds on the heap: the post without its content, plus a
+ * reference to the content off-heap. If the arena was full, the content
+ * stays in {@code metadata} and {@code content} is {@code null}.
+ */
+public record BlogHandle(BlogDTO metadata, ContentRef content) {
+
+    static BlogHandle of(BlogDTO blog, OffHeapContentStore store) {
+        ContentRef content = blog.getContent() != null ? store.retain(blog.getContent()) : null;
+        return new BlogHandle(copy(blog, content != null ? null : blog.getContent()), content);
+    }
+
+    /**
+     * @return the post with its content, or {@code null} if the content was freed meanwhile
+     */
+    BlogDTO toDto(OffHeapContentStore store) {
+        if (content == null) {
+            return metadata;
+        }
+        String text = store.read(content);
+        return text != null ? copy(metadata, text) : null;
+    }
+
+    private static BlogDTO copy(BlogDTO blog, String content) {
+        BlogDTO copy = new BlogDTO();
+        copy.setId(blog.getId());
+        copy.setTitle(blog.getTitle());
+        copy.setSlug(blog.getSlug());
+        copy.setExcerpt(blog.getExcerpt());
+        copy.setContent(content);
+        copy.setAuthor(blog.getAuthor());
+        copy.setDate(blog.getDate());
+        copy.setTags(blog.getTags());
+        copy.setReadTime(blog.getReadTime());
+        copy.setPublished(blog.getPublished());
+        return copy;
+    }
+}
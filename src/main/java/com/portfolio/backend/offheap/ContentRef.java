@@ -0,0 +1,9 @@
+package com.portfolio.backend.offheap;
+
+/**
+ * Heap handle to a text stored in an {@link OffHeapContentStore}, addressed by
+ * the SHA-256 of its UTF-8 bytes. The length lets caches weigh the handle by
+ * the content it keeps alive.
+ */
+public record ContentRef(String hash, int length) {
+}
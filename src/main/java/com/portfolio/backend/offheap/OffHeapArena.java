@@ -0,0 +1,108 @@
+package com.portfolio.backend.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Direct memory carved into fixed-size chunks. Slabs are allocated on demand
+ * up to the configured maximum and never returned to the JVM; freed chunks go
+ * back on a free list for reuse. Fixed chunks cannot fragment, at the cost of
+ * up to one partly used chunk per stored value.
+ *
+ * <p>Allocation and freeing are synchronized. Reads and writes of a chunk use
+ * absolute positions and need no lock; the caller guarantees the chunk is not
+ * freed concurrently.
+ */
+public final class OffHeapArena {
+
+    private final int chunkSize;
+    private final int chunksPerSlab;
+    private final int maxSlabs;
+    private volatile ByteBuffer[] slabs = new ByteBuffer[0];
+    private int[] freeChunks = new int[0];
+    private int freeCount;
+    private int usedChunks;
+
+    public OffHeapArena(int chunkSize, int slabSize, long maxBytes) {
+        this.chunkSize = chunkSize;
+        this.chunksPerSlab = Math.max(1, slabSize / chunkSize);
+        this.maxSlabs = (int) Math.max(1, maxBytes / ((long) chunksPerSlab * chunkSize));
+    }
+
+    /**
+     * @return the chunks holding {@code data}, or {@code null} if the arena is full
+     */
+    public int[] store(byte[] data) {
+        int[] chunks = allocate(Math.max(1, (data.length + chunkSize - 1) / chunkSize));
+        if (chunks == null) {
+            return null;
+        }
+        ByteBuffer[] current = slabs;
+        for (int i = 0, offset = 0; i < chunks.length; i++, offset += chunkSize) {
+            int length = Math.min(chunkSize, data.length - offset);
+            if (length > 0) {
+                current[chunks[i] / chunksPerSlab].put(position(chunks[i]), data, offset, length);
+            }
+        }
+        return chunks;
+    }
+
+    public byte[] read(int[] chunks, int length) {
+        byte[] data = new byte[length];
+        ByteBuffer[] current = slabs;
+        for (int i = 0, offset = 0; i < chunks.length && offset < length; i++, offset += chunkSize) {
+            current[chunks[i] / chunksPerSlab].get(position(chunks[i]), data, offset,
+                    Math.min(chunkSize, length - offset));
+        }
+        return data;
+    }
+
+    public synchronized void free(int[] chunks) {
+        if (freeCount + chunks.length > freeChunks.length) {
+            freeChunks = Arrays.copyOf(freeChunks, Math.max(freeCount + chunks.length, freeChunks.length * 2));
+        }
+        for (int chunk : chunks) {
+            freeChunks[freeCount++] = chunk;
+        }
+        usedChunks -= chunks.length;
+    }
+
+    public synchronized long usedBytes() {
+        return (long) usedChunks * chunkSize;
+    }
+
+    public long reservedBytes() {
+        return (long) slabs.length * chunksPerSlab * chunkSize;
+    }
+
+    private synchronized int[] allocate(int count) {
+        while (freeCount < count && slabs.length < maxSlabs) {
+            addSlab();
+        }
+        if (freeCount < count) {
+            return null;
+        }
+        int[] chunks = Arrays.copyOfRange(freeChunks, freeCount - count, freeCount);
+        freeCount -= count;
+        usedChunks += count;
+        return chunks;
+    }
+
+    private void addSlab() {
+        int slab = slabs.length;
+        ByteBuffer[] grown = Arrays.copyOf(slabs, slab + 1);
+        grown[slab] = ByteBuffer.allocateDirect(chunksPerSlab * chunkSize);
+        if (freeCount + chunksPerSlab > freeChunks.length) {
+            freeChunks = Arrays.copyOf(freeChunks, freeCount + chunksPerSlab);
+        }
+        // Pushed in reverse so chunks are handed out in address order
+        for (int i = chunksPerSlab - 1; i >= 0; i--) {
+            freeChunks[freeCount++] = slab * chunksPerSlab + i;
+        }
+        slabs = grown;
+    }
+
+    private int position(int chunk) {
+        return (chunk % chunksPerSlab) * chunkSize;
+    }
+}
@@ -0,0 +1,152 @@
+package com.portfolio.backend.offheap;
+
+import com.portfolio.backend.dto.BlogDTO;
+import com.portfolio.backend.dto.PrecompressedResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache decorator that keeps blog content off the heap. Posts, and lists of
+ * posts, are stored as {@link BlogHandle}s whose content lives in the shared
+ * {@link OffHeapContentStore}, so the same article body cached by several
+ * caches is held once. Precompressed responses are stored as
+ * {@link PayloadHandle}s the same way. Reads rebuild the values with their content.
+ *
+ * <p>The content is released when an entry leaves the native cache, through
+ * the removal listener CacheConfig registers with {@link #release(Object, OffHeapContentStore)}.
+ */
+public class OffHeapBlogCache implements Cache {
+
+    private final Cache delegate;
+    private final OffHeapContentStore store;
+
+    public OffHeapBlogCache(Cache delegate, OffHeapContentStore store) {
+        this.delegate = delegate;
+        this.store = store;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            return wrapper;
+        }
+        // Content freed between the lookup and the read: the entry was evicted, so treat it as a miss
+        Object value = toHeap(wrapper.get());
+        return value != null ? new SimpleValueWrapper(value) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object stored = delegate.get(key, () -> toOffHeap(valueLoader.call()));
+        if (stored == null) {
+            return null;
+        }
+        Object value = toHeap(stored);
+        if (value != null) {
+            return (T) value;
+        }
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, toOffHeap(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * Releases the off-heap content referenced by a value that left the cache.
+     */
+    public static void release(Object value, OffHeapContentStore store) {
+        if (value instanceof BlogHandle handle && handle.content() != null) {
+            store.release(handle.content());
+        } else if (value instanceof PayloadHandle handle) {
+            handle.release(store);
+        } else if (value instanceof List<?> list) {
+            list.forEach(element -> release(element, store));
+        }
+    }
+
+    private Object toOffHeap(Object value) {
+        if (value instanceof BlogDTO blog) {
+            return BlogHandle.of(blog, store);
+        }
+        if (value instanceof PrecompressedResponse payload) {
+            PayloadHandle handle = PayloadHandle.of(payload, store);
+            return handle != null ? handle : payload;
+        }
+        if (value instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof BlogDTO) {
+            List<Object> handles = new ArrayList<>(list.size());
+            for (Object element : list) {
+                handles.add(toOffHeap(element));
+            }
+            return Collections.unmodifiableList(handles);
+        }
+        return value;
+    }
+
+    private Object toHeap(Object value) {
+        if (value instanceof BlogHandle handle) {
+            return handle.toDto(store);
+        }
+        if (value instanceof PayloadHandle handle) {
+            return handle.toResponse(store);
+        }
+        if (value instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof BlogHandle) {
+            List<Object> blogs = new ArrayList<>(list.size());
+            for (Object element : list) {
+                Object blog = toHeap(element);
+                if (blog == null) {
+                    return null;
+                }
+                blogs.add(blog);
+            }
+            return Collections.unmodifiableList(blogs);
+        }
+        return value;
+    }
+}
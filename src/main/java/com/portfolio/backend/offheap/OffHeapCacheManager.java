@@ -0,0 +1,46 @@
+package com.portfolio.backend.offheap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps the named caches of the delegate manager in an {@link OffHeapBlogCache}
+ * sharing one {@link OffHeapContentStore}; other caches are returned as they are.
+ */
+public class OffHeapCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Set<String> offHeapCaches;
+    private final OffHeapContentStore store;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public OffHeapCacheManager(CacheManager delegate, Set<String> offHeapCaches, OffHeapContentStore store) {
+        this.delegate = delegate;
+        this.offHeapCaches = offHeapCaches;
+        this.store = store;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache cache = delegate.getCache(cacheName);
+            return cache != null && offHeapCaches.contains(cacheName)
+                    ? new OffHeapBlogCache(cache, store)
+                    : cache;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+}
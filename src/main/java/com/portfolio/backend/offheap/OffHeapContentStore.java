@@ -0,0 +1,127 @@
+package com.portfolio.backend.offheap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Content-addressed, reference-counted texts and byte payloads in an
+ * {@link OffHeapArena}. The same content retained from several cache entries
+ * is stored once. It is freed when the last reference is released.
+ *
+ * <p>Reads copy the bytes while holding the map entry, so a text cannot be
+ * freed, and its chunks reused, halfway through a read. A read of a text
+ * that has been freed returns {@code null}. Because references are content
+ * hashes, a read can never return another text.
+ */
+public class OffHeapContentStore {
+
+    private static final class Block {
+        private final int[] chunks;
+        private final int length;
+        private int references = 1;
+
+        private Block(int[] chunks, int length) {
+            this.chunks = chunks;
+            this.length = length;
+        }
+    }
+
+    private final OffHeapArena arena;
+    private final ConcurrentMap<String, Block> blocks = new ConcurrentHashMap<>();
+    private final Counter deduplicated;
+    private final Counter rejected;
+
+    public OffHeapContentStore(OffHeapArena arena, MeterRegistry meterRegistry) {
+        this.arena = arena;
+        this.deduplicated = Counter.builder("portfolio.offheap.deduplicated")
+                .description("Texts retained that were already stored off-heap")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("portfolio.offheap.rejected")
+                .description("Texts and payloads kept on the heap because the off-heap arena was full")
+                .register(meterRegistry);
+        Gauge.builder("portfolio.offheap.used", arena, OffHeapArena::usedBytes)
+                .description("Off-heap bytes in use by stored texts and payloads")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("portfolio.offheap.reserved", arena, OffHeapArena::reservedBytes)
+                .description("Direct memory allocated by the off-heap arena")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("portfolio.offheap.texts", blocks, ConcurrentMap::size)
+                .description("Distinct texts and payloads stored off-heap")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stores the text, or takes another reference to it if already stored.
+     *
+     * @return the handle, or {@code null} if the arena is full and the text should stay on the heap
+     */
+    public ContentRef retain(String text) {
+        return retain(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Stores the bytes, or takes another reference to them if already stored.
+     * The array is copied; the caller may drop it.
+     *
+     * @return the handle, or {@code null} if the arena is full and the bytes should stay on the heap
+     */
+    public ContentRef retain(byte[] bytes) {
+        String hash = sha256(bytes);
+        Block block = blocks.compute(hash, (key, existing) -> {
+            if (existing != null) {
+                existing.references++;
+                deduplicated.increment();
+                return existing;
+            }
+            int[] chunks = arena.store(bytes);
+            return chunks != null ? new Block(chunks, bytes.length) : null;
+        });
+        if (block == null) {
+            rejected.increment();
+            return null;
+        }
+        return new ContentRef(hash, bytes.length);
+    }
+
+    public String read(ContentRef ref) {
+        byte[] bytes = readBytes(ref);
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+
+    public byte[] readBytes(ContentRef ref) {
+        byte[][] bytes = new byte[1][];
+        blocks.computeIfPresent(ref.hash(), (key, block) -> {
+            bytes[0] = arena.read(block.chunks, block.length);
+            return block;
+        });
+        return bytes[0];
+    }
+
+    public void release(ContentRef ref) {
+        blocks.computeIfPresent(ref.hash(), (key, block) -> {
+            if (--block.references > 0) {
+                return block;
+            }
+            arena.free(block.chunks);
+            return null;
+        });
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
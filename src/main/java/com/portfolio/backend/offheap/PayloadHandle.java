@@ -0,0 +1,43 @@
+package com.portfolio.backend.offheap;
+
+import com.portfolio.backend.dto.PrecompressedResponse;
+
+/**
+ * What the payload cache holds on the heap for a {@link PrecompressedResponse}:
+ * its ETags, plus references to its identity and gzip bytes off-heap.
+ */
+public record PayloadHandle(ContentRef identity, ContentRef gzip, String identityEtag, String gzipEtag) {
+
+    /**
+     * @return the handle, or {@code null} if the arena is full and the payload should stay on the heap
+     */
+    static PayloadHandle of(PrecompressedResponse payload, OffHeapContentStore store) {
+        ContentRef identity = store.retain(payload.identity());
+        if (identity == null) {
+            return null;
+        }
+        ContentRef gzip = store.retain(payload.gzip());
+        if (gzip == null) {
+            store.release(identity);
+            return null;
+        }
+        return new PayloadHandle(identity, gzip, payload.identityEtag(), payload.gzipEtag());
+    }
+
+    /**
+     * @return the payload, or {@code null} if its bytes were freed meanwhile
+     */
+    PrecompressedResponse toResponse(OffHeapContentStore store) {
+        byte[] identityBytes = store.readBytes(identity);
+        byte[] gzipBytes = store.readBytes(gzip);
+        if (identityBytes == null || gzipBytes == null) {
+            return null;
+        }
+        return new PrecompressedResponse(identityBytes, gzipBytes, identityEtag, gzipEtag);
+    }
+
+    void release(OffHeapContentStore store) {
+        store.release(identity);
+        store.release(gzip);
+    }
+}
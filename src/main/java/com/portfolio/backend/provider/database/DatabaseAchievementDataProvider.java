@@ -6,12 +6,14 @@ import com.portfolio.backend.repository.AchievementRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Component
 @ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "DATABASE", matchIfMissing = true)
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class DatabaseAchievementDataProvider implements AchievementDataProvider {
     
     private final AchievementRepository achievementRepository;
@@ -6,6 +6,7 @@ import com.portfolio.backend.repository.BlogRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +14,7 @@ import java.util.Optional;
 @Component
 @ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "DATABASE", matchIfMissing = true)
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class DatabaseBlogDataProvider implements BlogDataProvider {
     
     private final BlogRepository blogRepository;
@@ -38,11 +40,13 @@ public class DatabaseBlogDataProvider implements BlogDataProvider {
     }
 
     @Override
+    @Transactional
     public Blog save(Blog blog) {
         return blogRepository.save(blog);
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
         blogRepository.deleteById(id);
     }
@@ -6,12 +6,14 @@ import com.portfolio.backend.repository.PersonalInfoRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Component
 @ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "DATABASE", matchIfMissing = true)
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class DatabasePersonalInfoDataProvider implements PersonalInfoDataProvider {
     
     private final PersonalInfoRepository personalInfoRepository;
@@ -22,6 +24,7 @@ public class DatabasePersonalInfoDataProvider implements PersonalInfoDataProvide
     }
 
     @Override
+    @Transactional
     public PersonalInfo save(PersonalInfo personalInfo) {
         return personalInfoRepository.save(personalInfo);
     }
@@ -0,0 +1,46 @@
+package com.portfolio.backend.provider.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Replaces a file in one step: the content goes to a temp file in the same
+ * directory, which is then moved over the target, so readers and crashes
+ * never observe a half-written file.
+ */
+public final class AtomicFileWriter {
+
+    @FunctionalInterface
+    public interface Verifier {
+        void verify(Path written) throws IOException;
+    }
+
+    private AtomicFileWriter() {
+    }
+
+    public static void write(Path target, byte[] content) throws IOException {
+        write(target, content, written -> {
+        });
+    }
+
+    /**
+     * Like {@link #write(Path, byte[])}, but lets the caller check the temp
+     * file before it replaces the target; a failed check leaves the target as it was.
+     */
+    public static void write(Path target, byte[] content, Verifier verifier) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, content);
+            verifier.verify(temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.portfolio.backend.provider.file;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Compact on-disk form of FILE-mode data: a fixed header followed by a Smile
+ * (binary JSON) payload. Smile keeps the Jackson mapping of the JSON files, so
+ * the same model classes round-trip through both formats, while back-references
+ * to repeated keys and short string values (tags, authors) shrink the file and
+ * skip text parsing on load.
+ *
+ * <p>Header layout, big-endian: magic {@code PSNP}, format version, payload
+ * length, a CRC32C of the payload, the CRC32C of the JSON file the data was
+ * imported from, and a flag telling whether the JSON file at the write path
+ * is as current as the snapshot. Loaders compare the source checksum with the
+ * JSON file on startup, so new JSON content (a deploy) is imported again
+ * instead of being shadowed by an older snapshot. Every write is read back
+ * and verified before it replaces the previous snapshot.
+ */
+public class BinarySnapshot {
+
+    private static final int MAGIC = 0x50534E50; // "PSNP"
+    private static final int VERSION = 2;
+    private static final int HEADER_LENGTH = 4 + 4 + 4 + 8 + 8 + 1;
+    private static final byte SOURCE_CURRENT = 1;
+
+    /**
+     * A decoded snapshot with the source information from its header.
+     */
+    public record Contents<T>(T value, long sourceChecksum, boolean sourceCurrent) {
+    }
+
+    private final ObjectMapper mapper;
+
+    public BinarySnapshot() {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        this.mapper = new ObjectMapper(factory);
+        this.mapper.registerModule(new JavaTimeModule());
+    }
+
+    /**
+     * Where the snapshot of a JSON data file lives: next to it, {@code .json}
+     * replaced by {@code .smile}.
+     */
+    public static Path pathFor(Path jsonPath) {
+        String name = jsonPath.getFileName().toString();
+        String base = name.endsWith(".json") ? name.substring(0, name.length() - ".json".length()) : name;
+        return jsonPath.resolveSibling(base + ".smile");
+    }
+
+    public JavaType listType(Class<?> elementType) {
+        return mapper.getTypeFactory().constructCollectionType(List.class, elementType);
+    }
+
+    public byte[] encode(Object value, long sourceChecksum, boolean sourceCurrent) throws IOException {
+        byte[] payload = mapper.writeValueAsBytes(value);
+        return ByteBuffer.allocate(HEADER_LENGTH + payload.length)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(payload.length)
+                .putLong(checksum(payload, 0, payload.length))
+                .putLong(sourceChecksum)
+                .put(sourceCurrent ? SOURCE_CURRENT : 0)
+                .put(payload)
+                .array();
+    }
+
+    public <T> Contents<T> decode(byte[] bytes, JavaType type) throws IOException {
+        verify(bytes);
+        ByteBuffer header = ByteBuffer.wrap(bytes, 0, HEADER_LENGTH);
+        long sourceChecksum = header.getLong(4 + 4 + 4 + 8);
+        boolean sourceCurrent = header.get(4 + 4 + 4 + 8 + 8) == SOURCE_CURRENT;
+        T value = mapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, type);
+        return new Contents<>(value, sourceChecksum, sourceCurrent);
+    }
+
+    public void write(Path target, Object value, long sourceChecksum, boolean sourceCurrent) throws IOException {
+        byte[] content = encode(value, sourceChecksum, sourceCurrent);
+        AtomicFileWriter.write(target, content, written -> verify(Files.readAllBytes(written)));
+    }
+
+    /**
+     * Writes a snapshot without a source, for callers that never compare it with a JSON file.
+     */
+    public void write(Path target, Object value) throws IOException {
+        write(target, value, 0, false);
+    }
+
+    public <T> Contents<T> readContents(Path source, JavaType type) throws IOException {
+        return decode(Files.readAllBytes(source), type);
+    }
+
+    public <T> Contents<T> readContents(Path source, Class<T> type) throws IOException {
+        return readContents(source, mapper.constructType(type));
+    }
+
+    public <T> T read(Path source, JavaType type) throws IOException {
+        return this.<T>readContents(source, type).value();
+    }
+
+    private void verify(byte[] bytes) throws IOException {
+        if (bytes.length < HEADER_LENGTH) {
+            throw new IOException("Snapshot is truncated: " + bytes.length + " bytes");
+        }
+        ByteBuffer header = ByteBuffer.wrap(bytes, 0, HEADER_LENGTH);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a portfolio snapshot");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+        int length = header.getInt();
+        if (length != bytes.length - HEADER_LENGTH) {
+            throw new IOException("Snapshot length mismatch: header says " + length
+                    + " bytes, found " + (bytes.length - HEADER_LENGTH));
+        }
+        long expected = header.getLong();
+        if (checksum(bytes, HEADER_LENGTH, length) != expected) {
+            throw new IOException("Snapshot checksum mismatch");
+        }
+    }
+
+    private static long checksum(byte[] bytes, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return crc.getValue();
+    }
+}
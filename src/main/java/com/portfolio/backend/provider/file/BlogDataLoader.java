@@ -1,114 +1,99 @@
 package com.portfolio.backend.provider.file;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.portfolio.backend.config.DataSourceProperties;
 import com.portfolio.backend.entity.Blog;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.core.io.Resource;
+import com.portfolio.backend.model.TagDictionary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
-import java.io.IOException;
-import java.nio.file.Files;
+import jakarta.annotation.PreDestroy;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
+/**
+ * The blog list of the single-file layout, kept in {@code blogs.json} (see
+ * {@link SnapshotBackedFile} for snapshots, write-behind and hot reload).
+ */
 @Component
-@ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "FILE")
-@Slf4j
+@ConditionalOnExpression(BlogDataLoader.SINGLE_FILE_LAYOUT)
 public class BlogDataLoader {
     
-    private final ResourceLoader resourceLoader;
-    private final DataSourceProperties dataSourceProperties;
-    private List<Blog> blogs;
-    private final ObjectMapper objectMapper;
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    private Path writeFilePath;
+    static final String SINGLE_FILE_LAYOUT = "'${portfolio.datasource.type:DATABASE}' == 'FILE'"
+            + " and '${portfolio.datasource.blog-layout:SINGLE_FILE}' == 'SINGLE_FILE'";
 
-    public BlogDataLoader(ResourceLoader resourceLoader, DataSourceProperties dataSourceProperties) {
-        this.resourceLoader = resourceLoader;
-        this.dataSourceProperties = dataSourceProperties;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+    private final SnapshotBackedFile<List<Blog>> file;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BlogDataLoader(ResourceLoader resourceLoader, DataSourceProperties dataSourceProperties,
+                          ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.eventPublisher = eventPublisher;
+        this.file = new SnapshotBackedFile<>("blogs", dataSourceProperties.getBlogFilePath(),
+                dataSourceProperties.getEffectiveBlogWritePath(),
+                TypeFactory.defaultInstance().constructCollectionType(List.class, Blog.class),
+                BlogDataLoader::canonicalize, ArrayList::new, ArrayList::new, List::copyOf,
+                dataSourceProperties, resourceLoader, meterRegistry);
     }
 
     @PostConstruct
     public void loadData() {
-        try {
-            Resource resource = resourceLoader.getResource(dataSourceProperties.getBlogFilePath());
-            blogs = objectMapper.readValue(resource.getInputStream(), new TypeReference<List<Blog>>() {});
-            log.info("Successfully loaded {} blogs from: {}", blogs.size(), dataSourceProperties.getBlogFilePath());
-            
-            // Determine write path
-            initializeWritePath();
-        } catch (IOException e) {
-            log.error("Failed to load blogs from: {}", dataSourceProperties.getBlogFilePath(), e);
-            log.info("Initializing with empty blog list");
-            blogs = new ArrayList<>();
-            initializeWritePath();
-        }
+        file.load();
     }
-    
-    private void initializeWritePath() {
-        String writePath = dataSourceProperties.getEffectiveBlogWritePath();
-        
-        // If classpath, try to resolve to actual file system path
-        if (writePath.startsWith("classpath:")) {
-            String relativePath = writePath.substring("classpath:".length());
-            // Try src/main/resources first (dev), then current dir
-            Path devPath = Paths.get("src/main/resources", relativePath);
-            if (Files.exists(devPath)) {
-                writeFilePath = devPath;
-                log.info("Blog write path resolved to: {}", writeFilePath.toAbsolutePath());
-            } else {
-                writeFilePath = Paths.get(relativePath);
-                log.warn("Using relative path for blog writes: {}", writeFilePath.toAbsolutePath());
-            }
-        } else {
-            writeFilePath = Paths.get(writePath);
-            log.info("Using configured blog write path: {}", writeFilePath.toAbsolutePath());
+
+    /**
+     * The JSON file that holds the current blogs on disk, watched for external edits.
+     */
+    public Path getWatchedFile() {
+        return file.getWatchedFile();
+    }
+
+    /**
+     * Re-reads the blog JSON file after an external edit, swaps the new list in
+     * and publishes a {@link FileDataReloadedEvent} naming the changed posts.
+     */
+    public void reloadFromDisk() {
+        List<FileDataReloadedEvent> events = file.reloadFromDisk((current, reloaded) -> List.of(
+                FileDataReloadedEvent.diff(FileDataReloadedEvent.BLOGS, current, reloaded, Blog::getId, Blog::getSlug)));
+        if (events != null) {
+            events.stream()
+                    .filter(FileDataReloadedEvent::hasChanges)
+                    .forEach(eventPublisher::publishEvent);
         }
     }
 
     public List<Blog> getBlogs() {
-        lock.readLock().lock();
-        try {
-            return blogs;
-        } finally {
-            lock.readLock().unlock();
-        }
+        return file.get();
     }
     
+    /**
+     * Applies a change to a modifiable copy of the blog list and publishes it,
+     * so readers never see a half-applied change, then saves.
+     */
+    public void modify(Consumer<List<Blog>> change) {
+        file.modify(change);
+    }
+
     public void saveData() {
-        if (!dataSourceProperties.isPersistChanges()) {
-            log.debug("Persistence disabled, skipping blog file write");
-            return;
-        }
-        
-        lock.writeLock().lock();
-        try {
-            // Ensure parent directory exists
-            if (writeFilePath.getParent() != null) {
-                Files.createDirectories(writeFilePath.getParent());
-            }
-            
-            // Write with pretty printing
-            objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValue(writeFilePath.toFile(), blogs);
-            
-            log.info("Successfully saved {} blogs to: {}", blogs.size(), writeFilePath.toAbsolutePath());
-        } catch (IOException e) {
-            log.error("Failed to save blogs to: {}", writeFilePath, e);
-            throw new RuntimeException("Failed to persist blogs to file", e);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        file.save();
+    }
+
+    /**
+     * Shares tags and authors across posts (see {@link TagDictionary}); a large
+     * archive otherwise holds one copy of each per post.
+     */
+    private static List<Blog> canonicalize(List<Blog> loaded) {
+        loaded.forEach(TagDictionary::canonicalize);
+        return loaded;
+    }
+
+    @PreDestroy
+    public void flushPendingWrites() {
+        file.close();
     }
 }
@@ -0,0 +1,273 @@
+package com.portfolio.backend.provider.file;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.backend.config.DataSourceProperties;
+import com.portfolio.backend.entity.Blog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Directory-backed blog storage: one JSON file per post, spread over shard
+ * subdirectories, plus a manifest with every post's metadata. Only the manifest
+ * is read at startup; bodies are read on first access and kept in a bounded
+ * cache. A save rewrites the post's own file and the body-less manifest, never
+ * the other posts.
+ *
+ * <pre>
+ * blogs/
+ *   manifest.json
+ *   posts/0a/10.json
+ *   posts/e9/1001.json
+ * </pre>
+ *
+ * A missing manifest is rebuilt from the post files; an empty directory is
+ * seeded from {@code portfolio.datasource.blog-file-path}.
+ */
+@Component
+@ConditionalOnExpression(BlogDirectoryStore.DIRECTORY_LAYOUT)
+@Slf4j
+public class BlogDirectoryStore {
+
+    static final String DIRECTORY_LAYOUT = "'${portfolio.datasource.type:DATABASE}' == 'FILE'"
+            + " and '${portfolio.datasource.blog-layout:SINGLE_FILE}' == 'DIRECTORY'";
+
+    private static final String MANIFEST_FILE = "manifest.json";
+    private static final String POSTS_DIRECTORY = "posts";
+    private static final int SHARDS = 256;
+
+    private final ResourceLoader resourceLoader;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, BlogManifestEntry> manifest = new LinkedHashMap<>();
+    private final Map<String, Long> idsBySlug = new HashMap<>();
+    // Highest id ever indexed; deleting the newest post does not hand its id out again
+    private long maxId;
+    private final Cache<Long, String> bodies;
+    // With persistence disabled, saved bodies exist only here and must not be evicted
+    private final Map<Long, String> unpersistedBodies = new ConcurrentHashMap<>();
+
+    public BlogDirectoryStore(ResourceLoader resourceLoader, DataSourceProperties dataSourceProperties) {
+        this.resourceLoader = resourceLoader;
+        this.dataSourceProperties = dataSourceProperties;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.directory = Paths.get(dataSourceProperties.getBlogDirectory());
+        this.bodies = Caffeine.newBuilder()
+                .maximumSize(dataSourceProperties.getBlogBodyCacheSize())
+                .build();
+    }
+
+    @PostConstruct
+    public void loadManifest() {
+        Path manifestFile = directory.resolve(MANIFEST_FILE);
+        try {
+            if (Files.exists(manifestFile)) {
+                List<BlogManifestEntry> entries = objectMapper.readValue(manifestFile.toFile(),
+                        new TypeReference<List<BlogManifestEntry>>() {});
+                entries.forEach(this::index);
+                log.info("Loaded blog manifest with {} posts from: {}", manifest.size(), manifestFile.toAbsolutePath());
+            } else if (Files.isDirectory(directory.resolve(POSTS_DIRECTORY))) {
+                rebuildManifest();
+            } else {
+                importFromJson();
+            }
+        } catch (IOException e) {
+            log.error("Failed to load blog directory: {}", directory.toAbsolutePath(), e);
+            log.info("Initializing with empty blog list");
+        }
+    }
+
+    private void rebuildManifest() throws IOException {
+        log.warn("Blog manifest missing, rebuilding it from the post files in: {}", directory.toAbsolutePath());
+        try (Stream<Path> files = Files.walk(directory.resolve(POSTS_DIRECTORY))) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".json")).toList()) {
+                index(BlogManifestEntry.of(objectMapper.readValue(file.toFile(), Blog.class)));
+            }
+        }
+        writeManifest();
+        log.info("Rebuilt blog manifest with {} posts", manifest.size());
+    }
+
+    private void importFromJson() throws IOException {
+        Resource resource = resourceLoader.getResource(dataSourceProperties.getBlogFilePath());
+        if (!resource.exists()) {
+            log.info("No blog directory or blog file found, starting with an empty blog list");
+            return;
+        }
+        List<Blog> blogs;
+        try (InputStream inputStream = resource.getInputStream()) {
+            blogs = objectMapper.readValue(inputStream, new TypeReference<List<Blog>>() {});
+        }
+        for (Blog blog : blogs) {
+            if (blog.getId() == null) {
+                blog.setId(nextId());
+            }
+            index(BlogManifestEntry.of(blog));
+            if (dataSourceProperties.isPersistChanges()) {
+                writePost(blog);
+            } else {
+                unpersistedBodies.put(blog.getId(), blog.getContent());
+            }
+        }
+        if (dataSourceProperties.isPersistChanges()) {
+            writeManifest();
+        }
+        log.info("Imported {} blogs from {} into: {}", blogs.size(), dataSourceProperties.getBlogFilePath(),
+                directory.toAbsolutePath());
+    }
+
+    public List<BlogManifestEntry> entries() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(manifest.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<BlogManifestEntry> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(manifest.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<BlogManifestEntry> findBySlug(String slug) {
+        lock.readLock().lock();
+        try {
+            Long id = idsBySlug.get(slug);
+            return id != null ? Optional.ofNullable(manifest.get(id)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The post's body, read from its file on first access.
+     */
+    public String body(Long id) {
+        String unpersisted = unpersistedBodies.get(id);
+        if (unpersisted != null) {
+            return unpersisted;
+        }
+        return bodies.get(id, this::readBody);
+    }
+
+    public BlogManifestEntry save(Blog blog) {
+        lock.writeLock().lock();
+        try {
+            if (blog.getId() == null) {
+                blog.setId(nextId());
+            }
+            BlogManifestEntry previous = manifest.get(blog.getId());
+            if (previous != null) {
+                idsBySlug.remove(previous.slug());
+            }
+            BlogManifestEntry entry = BlogManifestEntry.of(blog);
+            index(entry);
+            if (dataSourceProperties.isPersistChanges()) {
+                writePost(blog);
+                writeManifest();
+                bodies.put(blog.getId(), blog.getContent() != null ? blog.getContent() : "");
+            } else {
+                unpersistedBodies.put(blog.getId(), blog.getContent() != null ? blog.getContent() : "");
+            }
+            return entry;
+        } catch (IOException e) {
+            log.error("Failed to save blog {} to: {}", blog.getId(), directory.toAbsolutePath(), e);
+            throw new RuntimeException("Failed to persist blog to file", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void deleteById(Long id) {
+        lock.writeLock().lock();
+        try {
+            BlogManifestEntry removed = manifest.remove(id);
+            if (removed == null) {
+                return;
+            }
+            idsBySlug.remove(removed.slug());
+            bodies.invalidate(id);
+            unpersistedBodies.remove(id);
+            if (dataSourceProperties.isPersistChanges()) {
+                // Manifest first: a post file without a manifest entry is harmless, the reverse is not
+                writeManifest();
+                Files.deleteIfExists(postFile(id));
+            }
+        } catch (IOException e) {
+            log.error("Failed to delete blog {} from: {}", id, directory.toAbsolutePath(), e);
+            throw new RuntimeException("Failed to persist blog deletion to file", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(BlogManifestEntry entry) {
+        manifest.put(entry.id(), entry);
+        if (entry.slug() != null) {
+            idsBySlug.put(entry.slug(), entry.id());
+        }
+        maxId = Math.max(maxId, entry.id());
+    }
+
+    private long nextId() {
+        return maxId + 1;
+    }
+
+    private String readBody(Long id) {
+        Path file = postFile(id);
+        if (!Files.exists(file)) {
+            log.warn("Post file missing for blog {}: {}", id, file.toAbsolutePath());
+            return "";
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), Blog.class).getContent();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read post file: " + file, e);
+        }
+    }
+
+    private void writePost(Blog blog) throws IOException {
+        AtomicFileWriter.write(postFile(blog.getId()), objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(blog));
+    }
+
+    private void writeManifest() throws IOException {
+        List<BlogManifestEntry> entries = new ArrayList<>(manifest.values());
+        AtomicFileWriter.write(directory.resolve(MANIFEST_FILE), objectMapper.writeValueAsBytes(entries));
+    }
+
+    private Path postFile(Long id) {
+        String shard = String.format("%02x", Math.floorMod(id, SHARDS));
+        return directory.resolve(POSTS_DIRECTORY).resolve(shard).resolve(id + ".json");
+    }
+}
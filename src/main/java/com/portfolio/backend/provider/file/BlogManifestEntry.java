@@ -0,0 +1,34 @@
+package com.portfolio.backend.provider.file;
+
+import com.portfolio.backend.entity.Blog;
+import com.portfolio.backend.model.TagDictionary;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything about a post except its body, as kept in the blog directory
+ * manifest. Small enough that the whole manifest loads quickly at startup.
+ */
+public record BlogManifestEntry(Long id, String slug, String title, String excerpt, String author,
+                                LocalDateTime date, List<String> tags, String readTime, Boolean published,
+                                LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public BlogManifestEntry {
+        // The manifest stays in memory for every post; share tags and authors across entries
+        author = TagDictionary.author(author);
+        tags = TagDictionary.tags(tags);
+    }
+
+    public static BlogManifestEntry of(Blog blog) {
+        return new BlogManifestEntry(blog.getId(), blog.getSlug(), blog.getTitle(), blog.getExcerpt(),
+                blog.getAuthor(), blog.getDate(), blog.getTags(),
+                blog.getReadTime(), blog.getPublished(), blog.getCreatedAt(), blog.getUpdatedAt());
+    }
+
+    public Blog toBlog(String content) {
+        return new Blog(id, title, slug, excerpt, content, author, date,
+                tags != null ? new ArrayList<>(tags) : new ArrayList<>(), readTime, published, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,123 @@
+package com.portfolio.backend.provider.file;
+
+import com.portfolio.backend.config.DataSourceProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the FILE-mode JSON files and reloads them when they change on disk,
+ * so content deploys need no restart. Events are debounced per file (editors
+ * and copy tools emit several per save), and parsing, diffing and cache
+ * eviction run on a separate reload thread, never on request threads.
+ */
+@Component
+@ConditionalOnExpression("'${portfolio.datasource.type:DATABASE}' == 'FILE' and ${portfolio.datasource.hot-reload:false}")
+@Slf4j
+public class DataFileWatcher {
+
+    private final DataSourceProperties dataSourceProperties;
+    private final Map<Path, Runnable> reloaders = new HashMap<>();
+    private final Map<Path, ScheduledFuture<?>> pendingReloads = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "data-file-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private WatchService watchService;
+
+    public DataFileWatcher(DataSourceProperties dataSourceProperties, FileDataLoader fileDataLoader,
+                           ObjectProvider<BlogDataLoader> blogDataLoader) {
+        this.dataSourceProperties = dataSourceProperties;
+        reloaders.put(fileDataLoader.getWatchedFile().toAbsolutePath().normalize(), fileDataLoader::reloadFromDisk);
+        // Absent in the DIRECTORY blog layout, where only portfolio data is watched
+        blogDataLoader.ifAvailable(loader ->
+                reloaders.put(loader.getWatchedFile().toAbsolutePath().normalize(), loader::reloadFromDisk));
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        watchService = FileSystems.getDefault().newWatchService();
+        for (Path file : reloaders.keySet()) {
+            Path directory = file.getParent();
+            if (directory == null || !Files.isDirectory(directory)) {
+                log.warn("Not watching {} for changes: directory does not exist", file);
+                continue;
+            }
+            // Atomic replacements (ours and most deploy tools) show up as CREATE, in-place edits as MODIFY
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            log.info("Watching {} for changes", file);
+        }
+        Thread watchThread = new Thread(this::watch, "data-file-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        reloaders.keySet().forEach(this::scheduleReload);
+                        continue;
+                    }
+                    Path file = directory.resolve((Path) event.context()).toAbsolutePath().normalize();
+                    if (reloaders.containsKey(file)) {
+                        scheduleReload(file);
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            log.debug("Data file watcher stopped");
+        }
+    }
+
+    private void scheduleReload(Path file) {
+        long debounceMillis = dataSourceProperties.getHotReloadDebounce().toMillis();
+        pendingReloads.compute(file, (path, pending) -> {
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            return reloadExecutor.schedule(() -> reload(path), debounceMillis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private void reload(Path file) {
+        try {
+            reloaders.get(file).run();
+        } catch (RuntimeException e) {
+            log.error("Hot reload of {} failed, keeping the current data", file, e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+        reloadExecutor.shutdownNow();
+    }
+}
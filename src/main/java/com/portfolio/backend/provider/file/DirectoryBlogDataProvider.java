@@ -0,0 +1,80 @@
+package com.portfolio.backend.provider.file;
+
+import com.portfolio.backend.entity.Blog;
+import com.portfolio.backend.provider.BlogDataProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * FILE-mode blog provider for {@code portfolio.datasource.blog-layout=DIRECTORY}.
+ * Lookups and ordering work on the manifest alone; bodies are faulted in from
+ * {@link BlogDirectoryStore} only for the posts returned, so lists and search
+ * return the same full posts as the single-file layout.
+ */
+@Component
+@ConditionalOnExpression(BlogDirectoryStore.DIRECTORY_LAYOUT)
+@RequiredArgsConstructor
+public class DirectoryBlogDataProvider implements BlogDataProvider {
+
+    private final BlogDirectoryStore blogDirectoryStore;
+    private final SortedReadModel<BlogManifestEntry, LocalDateTime> publishedByDateDesc = new SortedReadModel<>(
+            BlogManifestEntry::id, BlogManifestEntry::date, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()),
+            entry -> Boolean.TRUE.equals(entry.published()));
+
+    @PostConstruct
+    public void initializeReadModels() {
+        publishedByDateDesc.reset(blogDirectoryStore.entries());
+    }
+
+    @Override
+    public List<Blog> findAll() {
+        return blogDirectoryStore.entries().stream()
+                .map(this::toBlog)
+                .toList();
+    }
+
+    @Override
+    public List<Blog> findByPublishedTrueOrderByDateDesc() {
+        return publishedByDateDesc.list().stream()
+                .map(this::toBlog)
+                .toList();
+    }
+
+    @Override
+    public Optional<Blog> findById(Long id) {
+        return blogDirectoryStore.findById(id).map(this::toBlog);
+    }
+
+    @Override
+    public Optional<Blog> findBySlug(String slug) {
+        return blogDirectoryStore.findBySlug(slug).map(this::toBlog);
+    }
+
+    @Override
+    public Blog save(Blog blog) {
+        publishedByDateDesc.put(blogDirectoryStore.save(blog));
+        return blog;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        blogDirectoryStore.deleteById(id);
+        publishedByDateDesc.remove(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return blogDirectoryStore.findById(id).isPresent();
+    }
+
+    private Blog toBlog(BlogManifestEntry entry) {
+        return entry.toBlog(blogDirectoryStore.body(entry.id()));
+    }
+}
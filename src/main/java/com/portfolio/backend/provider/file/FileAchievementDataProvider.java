@@ -4,11 +4,14 @@ import com.portfolio.backend.entity.Achievement;
 import com.portfolio.backend.provider.AchievementDataProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PostConstruct;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 @ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "FILE")
@@ -16,11 +19,25 @@ import java.util.stream.Collectors;
 public class FileAchievementDataProvider implements AchievementDataProvider {
     
     private final FileDataLoader fileDataLoader;
+    private final SortedReadModel<Achievement, Integer> byDisplayOrder = new SortedReadModel<>(
+            Achievement::getId, Achievement::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    @PostConstruct
+    public void initializeReadModels() {
+        byDisplayOrder.reset(fileDataLoader.getData().getAchievements());
+    }
+
+    // Runs before the cache evictor so evicted entries are recomputed from the new data
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onDataReloaded(FileDataReloadedEvent event) {
+        if (FileDataReloadedEvent.ACHIEVEMENTS.equals(event.section())) {
+            initializeReadModels();
+        }
+    }
 
     @Override
     public List<Achievement> findAllByOrderByDisplayOrder() {
-        return fileDataLoader.getData().getAchievements().stream()
-                .sorted(Comparator.comparing(Achievement::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder())))
-                .collect(Collectors.toList());
+        return byDisplayOrder.list();
     }
 }
@@ -1,24 +1,46 @@
 package com.portfolio.backend.provider.file;
 
 import com.portfolio.backend.entity.Blog;
+import com.portfolio.backend.model.TagDictionary;
 import com.portfolio.backend.provider.BlogDataProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
 
 @Component
-@ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "FILE")
+@ConditionalOnExpression(BlogDataLoader.SINGLE_FILE_LAYOUT)
 @RequiredArgsConstructor
 public class FileBlogDataProvider implements BlogDataProvider {
     
     private final BlogDataLoader blogDataLoader;
     private final AtomicLong idCounter = new AtomicLong(1000);
+    private final SortedReadModel<Blog, LocalDateTime> publishedByDateDesc = new SortedReadModel<>(
+            Blog::getId, Blog::getDate, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()),
+            blog -> Boolean.TRUE.equals(blog.getPublished()));
+
+    @PostConstruct
+    public void initializeReadModels() {
+        publishedByDateDesc.reset(blogDataLoader.getBlogs());
+    }
+
+    // Runs before the cache evictor so evicted entries are recomputed from the new data
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onDataReloaded(FileDataReloadedEvent event) {
+        if (FileDataReloadedEvent.BLOGS.equals(event.section())) {
+            initializeReadModels();
+        }
+    }
 
     @Override
     public List<Blog> findAll() {
@@ -27,10 +49,7 @@ public class FileBlogDataProvider implements BlogDataProvider {
 
     @Override
     public List<Blog> findByPublishedTrueOrderByDateDesc() {
-        return blogDataLoader.getBlogs().stream()
-                .filter(Blog::getPublished)
-                .sorted(Comparator.comparing(Blog::getDate).reversed())
-                .collect(Collectors.toList());
+        return publishedByDateDesc.list();
     }
 
     @Override
@@ -52,17 +71,22 @@ public class FileBlogDataProvider implements BlogDataProvider {
         if (blog.getId() == null) {
             blog.setId(idCounter.incrementAndGet());
         }
-        List<Blog> blogs = blogDataLoader.getBlogs();
-        blogs.removeIf(b -> b.getId().equals(blog.getId()));
-        blogs.add(blog);
-        blogDataLoader.saveData();
+        // Share tags and author with the loaded blogs instead of keeping the request's copies
+        TagDictionary.canonicalize(blog);
+        blogDataLoader.modify(blogs -> {
+            blogs.removeIf(b -> b.getId().equals(blog.getId()));
+            blogs.add(blog);
+            publishedByDateDesc.put(blog);
+        });
         return blog;
     }
 
     @Override
     public void deleteById(Long id) {
-        blogDataLoader.getBlogs().removeIf(b -> b.getId().equals(id));
-        blogDataLoader.saveData();
+        blogDataLoader.modify(blogs -> {
+            blogs.removeIf(b -> b.getId().equals(id));
+            publishedByDateDesc.remove(id);
+        });
     }
 
     @Override
@@ -1,109 +1,135 @@
 package com.portfolio.backend.provider.file;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.portfolio.backend.config.DataSourceProperties;
+import com.portfolio.backend.entity.Achievement;
+import com.portfolio.backend.entity.Education;
+import com.portfolio.backend.entity.Experience;
+import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.entity.Skill;
 import com.portfolio.backend.model.PortfolioData;
-import lombok.extern.slf4j.Slf4j;
+import com.portfolio.backend.model.TagDictionary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.core.io.Resource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
-import java.io.IOException;
-import java.nio.file.Files;
+import jakarta.annotation.PreDestroy;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
+/**
+ * Everything but the blogs, kept in {@code portfolio-data.json} (see
+ * {@link SnapshotBackedFile} for snapshots, write-behind and hot reload).
+ */
 @Component
 @ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "FILE")
-@Slf4j
 public class FileDataLoader {
-    
-    private final ResourceLoader resourceLoader;
-    private final DataSourceProperties dataSourceProperties;
-    private PortfolioData portfolioData;
-    private final ObjectMapper objectMapper;
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    private Path writeFilePath;
 
-    public FileDataLoader(ResourceLoader resourceLoader, DataSourceProperties dataSourceProperties) {
-        this.resourceLoader = resourceLoader;
-        this.dataSourceProperties = dataSourceProperties;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+    private final SnapshotBackedFile<PortfolioData> file;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FileDataLoader(ResourceLoader resourceLoader, DataSourceProperties dataSourceProperties,
+                          ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.eventPublisher = eventPublisher;
+        this.file = new SnapshotBackedFile<>("portfolio data", dataSourceProperties.getFilePath(),
+                dataSourceProperties.getEffectiveWritePath(),
+                TypeFactory.defaultInstance().constructType(PortfolioData.class),
+                FileDataLoader::canonicalize, PortfolioData::new,
+                data -> copy(data, true), data -> copy(data, false), dataSourceProperties, resourceLoader, meterRegistry);
     }
 
     @PostConstruct
     public void loadData() {
-        try {
-            Resource resource = resourceLoader.getResource(dataSourceProperties.getFilePath());
-            portfolioData = objectMapper.readValue(resource.getInputStream(), PortfolioData.class);
-            log.info("Successfully loaded portfolio data from: {}", dataSourceProperties.getFilePath());
-            
-            // Determine write path
-            initializeWritePath();
-        } catch (IOException e) {
-            log.error("Failed to load portfolio data from: {}", dataSourceProperties.getFilePath(), e);
-            portfolioData = new PortfolioData();
-        }
+        file.load();
     }
-    
-    private void initializeWritePath() {
-        String writePath = dataSourceProperties.getEffectiveWritePath();
-        
-        // If classpath, try to resolve to actual file system path
-        if (writePath.startsWith("classpath:")) {
-            String relativePath = writePath.substring("classpath:".length());
-            // Try src/main/resources first (dev), then current dir
-            Path devPath = Paths.get("src/main/resources", relativePath);
-            if (Files.exists(devPath)) {
-                writeFilePath = devPath;
-                log.info("Write path resolved to: {}", writeFilePath.toAbsolutePath());
-            } else {
-                writeFilePath = Paths.get(relativePath);
-                log.warn("Using relative path for writes: {}", writeFilePath.toAbsolutePath());
-            }
-        } else {
-            writeFilePath = Paths.get(writePath);
-            log.info("Using configured write path: {}", writeFilePath.toAbsolutePath());
+
+    /**
+     * The JSON file that holds the current portfolio data on disk, watched for external edits.
+     */
+    public Path getWatchedFile() {
+        return file.getWatchedFile();
+    }
+
+    /**
+     * Re-reads the portfolio JSON file after an external edit, swaps the new data
+     * in and publishes a {@link FileDataReloadedEvent} for each changed section.
+     */
+    public void reloadFromDisk() {
+        List<FileDataReloadedEvent> events = file.reloadFromDisk((current, reloaded) -> List.of(
+                FileDataReloadedEvent.diff(FileDataReloadedEvent.PROJECTS,
+                        current.getProjects(), reloaded.getProjects(), Project::getId),
+                FileDataReloadedEvent.diff(FileDataReloadedEvent.EXPERIENCES,
+                        current.getExperiences(), reloaded.getExperiences(), Experience::getId),
+                FileDataReloadedEvent.diff(FileDataReloadedEvent.SKILLS,
+                        current.getSkills(), reloaded.getSkills(), Skill::getId),
+                FileDataReloadedEvent.diff(FileDataReloadedEvent.EDUCATION,
+                        current.getEducation(), reloaded.getEducation(), Education::getId),
+                FileDataReloadedEvent.diff(FileDataReloadedEvent.ACHIEVEMENTS,
+                        current.getAchievements(), reloaded.getAchievements(), Achievement::getId),
+                FileDataReloadedEvent.diff(FileDataReloadedEvent.PERSONAL_INFO,
+                        current.getPersonalInfo(), reloaded.getPersonalInfo())));
+        if (events != null) {
+            events.stream()
+                    .filter(FileDataReloadedEvent::hasChanges)
+                    .forEach(eventPublisher::publishEvent);
         }
     }
 
     public PortfolioData getData() {
-        lock.readLock().lock();
-        try {
-            return portfolioData;
-        } finally {
-            lock.readLock().unlock();
-        }
+        return file.get();
+    }
+
+    /**
+     * Applies a change to a modifiable copy of the portfolio data and publishes
+     * it, so readers never see a half-applied change, then saves.
+     */
+    public void modify(Consumer<PortfolioData> change) {
+        file.modify(change);
     }
-    
+
     public void saveData() {
-        if (!dataSourceProperties.isPersistChanges()) {
-            log.debug("Persistence disabled, skipping file write");
-            return;
+        file.save();
+    }
+
+    /**
+     * Shares project tags across projects and with the blogs (see {@link TagDictionary}).
+     */
+    private static PortfolioData canonicalize(PortfolioData loaded) {
+        if (loaded.getProjects() != null) {
+            loaded.getProjects().forEach(TagDictionary::canonicalize);
         }
-        
-        lock.writeLock().lock();
-        try {
-            // Ensure parent directory exists
-            if (writeFilePath.getParent() != null) {
-                Files.createDirectories(writeFilePath.getParent());
-            }
-            
-            // Write with pretty printing
-            objectMapper.writerWithDefaultPrettyPrinter()
-                    .writeValue(writeFilePath.toFile(), portfolioData);
-            
-            log.info("Successfully saved portfolio data to: {}", writeFilePath.toAbsolutePath());
-        } catch (IOException e) {
-            log.error("Failed to save portfolio data to: {}", writeFilePath, e);
-            throw new RuntimeException("Failed to persist data to file", e);
-        } finally {
-            lock.writeLock().unlock();
+        return loaded;
+    }
+
+    /**
+     * A copy with its own section lists, modifiable or not; the items are shared.
+     * A section added to {@link PortfolioData} has to be copied here too.
+     */
+    private static PortfolioData copy(PortfolioData data, boolean modifiable) {
+        PortfolioData copy = new PortfolioData();
+        copy.setPersonalInfo(data.getPersonalInfo());
+        copy.setProjects(copy(data.getProjects(), modifiable));
+        copy.setExperiences(copy(data.getExperiences(), modifiable));
+        copy.setSkills(copy(data.getSkills(), modifiable));
+        copy.setEducation(copy(data.getEducation(), modifiable));
+        copy.setAchievements(copy(data.getAchievements(), modifiable));
+        return copy;
+    }
+
+    private static <E> List<E> copy(List<E> section, boolean modifiable) {
+        if (section == null) {
+            return modifiable ? new ArrayList<>() : List.of();
         }
+        return modifiable ? new ArrayList<>(section) : List.copyOf(section);
+    }
+
+    @PreDestroy
+    public void flushPendingWrites() {
+        file.close();
     }
 }
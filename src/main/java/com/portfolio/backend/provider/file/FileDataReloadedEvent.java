@@ -0,0 +1,90 @@
+package com.portfolio.backend.provider.file;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Published after a FILE-mode data file was edited on disk and its new content
+ * swapped in. One event is published per changed section, naming the ids (and,
+ * for blogs, the old and new slugs) whose content differs, so listeners can
+ * rebuild read models and evict only the affected cache entries.
+ *
+ * @param changedIds   ids that were added, removed or modified
+ * @param changedSlugs slugs of those items, before and after the change
+ * @param unkeyed      whether items without an id changed, i.e. no key-based eviction is possible
+ */
+public record FileDataReloadedEvent(String section, Set<Long> changedIds, Set<String> changedSlugs, boolean unkeyed) {
+
+    public static final String BLOGS = "blogs";
+    public static final String PROJECTS = "projects";
+    public static final String EXPERIENCES = "experiences";
+    public static final String SKILLS = "skills";
+    public static final String EDUCATION = "education";
+    public static final String ACHIEVEMENTS = "achievements";
+    public static final String PERSONAL_INFO = "personalInfo";
+
+    public boolean hasChanges() {
+        return !changedIds.isEmpty() || unkeyed;
+    }
+
+    public static <T> FileDataReloadedEvent diff(String section, List<T> before, List<T> after,
+                                                 Function<T, Long> idOf) {
+        return diff(section, before, after, idOf, item -> null);
+    }
+
+    public static <T> FileDataReloadedEvent diff(String section, List<T> before, List<T> after,
+                                                 Function<T, Long> idOf, Function<T, String> slugOf) {
+        Map<Long, T> beforeById = new HashMap<>();
+        List<T> beforeUnkeyed = new ArrayList<>();
+        index(before, idOf, beforeById, beforeUnkeyed);
+        Map<Long, T> afterById = new HashMap<>();
+        List<T> afterUnkeyed = new ArrayList<>();
+        index(after, idOf, afterById, afterUnkeyed);
+
+        Set<Long> changedIds = new HashSet<>();
+        Set<String> changedSlugs = new HashSet<>();
+        Set<Long> ids = new HashSet<>(beforeById.keySet());
+        ids.addAll(afterById.keySet());
+        for (Long id : ids) {
+            T previous = beforeById.get(id);
+            T current = afterById.get(id);
+            if (!Objects.equals(previous, current)) {
+                changedIds.add(id);
+                addSlug(changedSlugs, previous, slugOf);
+                addSlug(changedSlugs, current, slugOf);
+            }
+        }
+        return new FileDataReloadedEvent(section, changedIds, changedSlugs, !beforeUnkeyed.equals(afterUnkeyed));
+    }
+
+    public static FileDataReloadedEvent diff(String section, Object before, Object after) {
+        return new FileDataReloadedEvent(section, Set.of(), Set.of(), !Objects.equals(before, after));
+    }
+
+    private static <T> void index(List<T> items, Function<T, Long> idOf, Map<Long, T> byId, List<T> unkeyed) {
+        if (items == null) {
+            return;
+        }
+        for (T item : items) {
+            Long id = idOf.apply(item);
+            if (id != null) {
+                byId.put(id, item);
+            } else {
+                unkeyed.add(item);
+            }
+        }
+    }
+
+    private static <T> void addSlug(Set<String> slugs, T item, Function<T, String> slugOf) {
+        String slug = item != null ? slugOf.apply(item) : null;
+        if (slug != null) {
+            slugs.add(slug);
+        }
+    }
+}
@@ -4,11 +4,14 @@ import com.portfolio.backend.entity.Experience;
 import com.portfolio.backend.provider.ExperienceDataProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PostConstruct;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 @ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "FILE")
@@ -16,11 +19,25 @@ import java.util.stream.Collectors;
 public class FileExperienceDataProvider implements ExperienceDataProvider {
     
     private final FileDataLoader fileDataLoader;
+    private final SortedReadModel<Experience, Integer> byDisplayOrder = new SortedReadModel<>(
+            Experience::getId, Experience::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    @PostConstruct
+    public void initializeReadModels() {
+        byDisplayOrder.reset(fileDataLoader.getData().getExperiences());
+    }
+
+    // Runs before the cache evictor so evicted entries are recomputed from the new data
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onDataReloaded(FileDataReloadedEvent event) {
+        if (FileDataReloadedEvent.EXPERIENCES.equals(event.section())) {
+            initializeReadModels();
+        }
+    }
 
     @Override
     public List<Experience> findAllByOrderByDisplayOrder() {
-        return fileDataLoader.getData().getExperiences().stream()
-                .sorted(Comparator.comparing(Experience::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder())))
-                .collect(Collectors.toList());
+        return byDisplayOrder.list();
     }
 }
@@ -22,8 +22,7 @@ public class FilePersonalInfoDataProvider implements PersonalInfoDataProvider {
 
     @Override
     public PersonalInfo save(PersonalInfo personalInfo) {
-        fileDataLoader.getData().setPersonalInfo(personalInfo);
-        fileDataLoader.saveData();
+        fileDataLoader.modify(data -> data.setPersonalInfo(personalInfo));
         return personalInfo;
     }
 }
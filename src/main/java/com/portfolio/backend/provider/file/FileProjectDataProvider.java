@@ -1,16 +1,20 @@
 package com.portfolio.backend.provider.file;
 
 import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.model.TagDictionary;
 import com.portfolio.backend.provider.ProjectDataProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PostConstruct;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
 
 @Component
 @ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "FILE")
@@ -19,6 +23,27 @@ public class FileProjectDataProvider implements ProjectDataProvider {
     
     private final FileDataLoader fileDataLoader;
     private final AtomicLong idCounter = new AtomicLong(1000);
+    private final SortedReadModel<Project, Integer> byDisplayOrder = new SortedReadModel<>(
+            Project::getId, Project::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+    private final SortedReadModel<Project, Integer> featuredByDisplayOrder = new SortedReadModel<>(
+            Project::getId, Project::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()),
+            project -> Boolean.TRUE.equals(project.getFeatured()));
+
+    @PostConstruct
+    public void initializeReadModels() {
+        List<Project> projects = fileDataLoader.getData().getProjects();
+        byDisplayOrder.reset(projects);
+        featuredByDisplayOrder.reset(projects);
+    }
+
+    // Runs before the cache evictor so evicted entries are recomputed from the new data
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onDataReloaded(FileDataReloadedEvent event) {
+        if (FileDataReloadedEvent.PROJECTS.equals(event.section())) {
+            initializeReadModels();
+        }
+    }
 
     @Override
     public List<Project> findAll() {
@@ -27,17 +52,12 @@ public class FileProjectDataProvider implements ProjectDataProvider {
 
     @Override
     public List<Project> findAllByOrderByDisplayOrderAsc() {
-        return fileDataLoader.getData().getProjects().stream()
-                .sorted(Comparator.comparing(Project::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder())))
-                .collect(Collectors.toList());
+        return byDisplayOrder.list();
     }
 
     @Override
     public List<Project> findByFeaturedTrueOrderByDisplayOrderAsc() {
-        return fileDataLoader.getData().getProjects().stream()
-                .filter(Project::getFeatured)
-                .sorted(Comparator.comparing(Project::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder())))
-                .collect(Collectors.toList());
+        return featuredByDisplayOrder.list();
     }
 
     @Override
@@ -52,17 +72,25 @@ public class FileProjectDataProvider implements ProjectDataProvider {
         if (project.getId() == null) {
             project.setId(idCounter.incrementAndGet());
         }
-        List<Project> projects = fileDataLoader.getData().getProjects();
-        projects.removeIf(p -> p.getId().equals(project.getId()));
-        projects.add(project);
-        fileDataLoader.saveData();
+        // Share tags with the loaded projects instead of keeping the request's copies
+        TagDictionary.canonicalize(project);
+        fileDataLoader.modify(data -> {
+            List<Project> projects = data.getProjects();
+            projects.removeIf(p -> p.getId().equals(project.getId()));
+            projects.add(project);
+            byDisplayOrder.put(project);
+            featuredByDisplayOrder.put(project);
+        });
         return project;
     }
 
     @Override
     public void deleteById(Long id) {
-        fileDataLoader.getData().getProjects().removeIf(p -> p.getId().equals(id));
-        fileDataLoader.saveData();
+        fileDataLoader.modify(data -> {
+            data.getProjects().removeIf(p -> p.getId().equals(id));
+            byDisplayOrder.remove(id);
+            featuredByDisplayOrder.remove(id);
+        });
     }
 
     @Override
@@ -4,11 +4,14 @@ import com.portfolio.backend.entity.Skill;
 import com.portfolio.backend.provider.SkillDataProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PostConstruct;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 @ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "FILE")
@@ -16,11 +19,25 @@ import java.util.stream.Collectors;
 public class FileSkillDataProvider implements SkillDataProvider {
     
     private final FileDataLoader fileDataLoader;
+    private final SortedReadModel<Skill, Integer> byDisplayOrder = new SortedReadModel<>(
+            Skill::getId, Skill::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    @PostConstruct
+    public void initializeReadModels() {
+        byDisplayOrder.reset(fileDataLoader.getData().getSkills());
+    }
+
+    // Runs before the cache evictor so evicted entries are recomputed from the new data
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onDataReloaded(FileDataReloadedEvent event) {
+        if (FileDataReloadedEvent.SKILLS.equals(event.section())) {
+            initializeReadModels();
+        }
+    }
 
     @Override
     public List<Skill> findAllByOrderByDisplayOrder() {
-        return fileDataLoader.getData().getSkills().stream()
-                .sorted(Comparator.comparing(Skill::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder())))
-                .collect(Collectors.toList());
+        return byDisplayOrder.list();
     }
 }
@@ -0,0 +1,70 @@
+package com.portfolio.backend.provider.file;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+import static com.portfolio.backend.config.CacheConfig.*;
+
+/**
+ * Evicts the service caches affected by a hot reload. List caches of a changed
+ * section are cleared; by-id and by-slug caches lose only the changed entries,
+ * so unchanged posts and projects stay warm across a content deploy.
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "FILE")
+@RequiredArgsConstructor
+@Slf4j
+public class ReloadCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    @EventListener
+    public void onDataReloaded(FileDataReloadedEvent event) {
+        switch (event.section()) {
+            case FileDataReloadedEvent.BLOGS -> {
+                clear(BLOGS_CACHE, PUBLISHED_BLOGS_CACHE);
+                evict(BLOG_BY_ID_CACHE, event.changedIds(), event.unkeyed());
+                evict(BLOG_PAYLOAD_BY_SLUG_CACHE, event.changedSlugs(), event.unkeyed());
+            }
+            case FileDataReloadedEvent.PROJECTS -> {
+                clear(PROJECTS_CACHE, FEATURED_PROJECTS_CACHE);
+                evict(PROJECT_BY_ID_CACHE, event.changedIds(), event.unkeyed());
+            }
+            case FileDataReloadedEvent.EXPERIENCES -> clear(EXPERIENCES_CACHE);
+            case FileDataReloadedEvent.SKILLS -> clear(SKILLS_CACHE);
+            case FileDataReloadedEvent.EDUCATION -> clear(EDUCATION_CACHE);
+            case FileDataReloadedEvent.ACHIEVEMENTS -> clear(ACHIEVEMENTS_CACHE);
+            case FileDataReloadedEvent.PERSONAL_INFO -> clear(PERSONAL_INFO_CACHE);
+            default -> log.warn("No caches mapped for reloaded section {}", event.section());
+        }
+        log.info("Evicted caches for reloaded {} ({} changed ids)", event.section(), event.changedIds().size());
+    }
+
+    private void clear(String... cacheNames) {
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private void evict(String cacheName, Set<?> keys, boolean all) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (all) {
+            cache.clear();
+            return;
+        }
+        keys.forEach(cache::evict);
+    }
+}
@@ -0,0 +1,482 @@
+package com.portfolio.backend.provider.file;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.portfolio.backend.config.DataSourceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.zip.CRC32C;
+
+/**
+ * One FILE-mode data file held in memory: the editable JSON file, optionally
+ * backed by a Smile snapshot (see {@link BinarySnapshot}), with write-behind
+ * saves and hot reload of external edits. {@link BlogDataLoader} and
+ * {@link FileDataLoader} each keep one and only supply what differs: the
+ * type, the canonicalization and how a reload is diffed into events.
+ *
+ * <p>With a snapshot, saves go to the snapshot and the JSON file is only
+ * rewritten on shutdown or when a reload needs it current. The snapshot header
+ * records the checksum of the JSON file it was imported from, so a JSON file
+ * replaced while the application was down is imported again on startup.
+ *
+ * <p>An external edit that arrives while the file is behind memory is not
+ * applied, because it would replace changes the file does not hold yet. The
+ * edit is copied to a {@code .rejected-<timestamp>} file next to the JSON
+ * file, which is then rewritten from memory, and the conflict is logged and
+ * counted in {@code portfolio.file.reload.rejected}.
+ *
+ * <p>The value is copy-on-write: {@link #modify} changes a modifiable copy and
+ * publishes an unmodifiable one, so readers iterate a consistent snapshot
+ * without locking, and a save serializes one without blocking changes.
+ *
+ * <p>Disk writes - saves, exports, snapshot imports - and the checksums and
+ * staleness they record are serialized by a lock of their own, taken before
+ * the data lock when both are needed, so two writers, such as the watcher's
+ * export and a write-behind flush, never interleave.
+ */
+@Slf4j
+class SnapshotBackedFile<T> {
+
+    private final String name;
+    private final String sourceLocation;
+    private final String writeLocation;
+    private final JavaType type;
+    private final UnaryOperator<T> canonicalizer;
+    private final Supplier<T> empty;
+    private final UnaryOperator<T> mutableCopy;
+    private final UnaryOperator<T> immutableCopy;
+    private final DataSourceProperties dataSourceProperties;
+    private final ResourceLoader resourceLoader;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    // Serializes changes to the value; readers need no lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock diskLock = new ReentrantLock();
+    private final WriteBehindWriter writeBehindWriter;
+    private final BinarySnapshot snapshot;
+    private volatile T value;
+    private Path writeFilePath;
+    private Path snapshotPath;
+    // Set under lock with the change it saves, cleared under diskLock by the write that saves it
+    private volatile boolean unsaved;
+    // Written under diskLock
+    private volatile boolean jsonStale;
+    // Content of the JSON file as last loaded or written, to tell external edits from our own writes
+    private volatile long lastFileChecksum;
+    // Content of the JSON file the snapshot was imported from, recorded in the snapshot header
+    private volatile long sourceChecksum;
+    private boolean sourceIsWriteFile;
+
+    /**
+     * @param name           what the file holds, for logs and the write-behind thread
+     * @param sourceLocation the resource read on startup
+     * @param writeLocation  the JSON file saves and exports rewrite, and reloads watch
+     * @param canonicalizer  applied to every value read from either file
+     * @param empty          the value when neither file can be read
+     * @param mutableCopy    a copy that {@link #modify} may change, sharing the items themselves
+     * @param immutableCopy  an unmodifiable copy, or the value itself if it already is one
+     */
+    SnapshotBackedFile(String name, String sourceLocation, String writeLocation, JavaType type,
+                       UnaryOperator<T> canonicalizer, Supplier<T> empty,
+                       UnaryOperator<T> mutableCopy, UnaryOperator<T> immutableCopy,
+                       DataSourceProperties dataSourceProperties, ResourceLoader resourceLoader,
+                       MeterRegistry meterRegistry) {
+        this.name = name;
+        this.sourceLocation = sourceLocation;
+        this.writeLocation = writeLocation;
+        this.type = type;
+        this.canonicalizer = canonicalizer;
+        this.empty = empty;
+        this.mutableCopy = mutableCopy;
+        this.immutableCopy = immutableCopy;
+        this.dataSourceProperties = dataSourceProperties;
+        this.resourceLoader = resourceLoader;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.writeBehindWriter = dataSourceProperties.isWriteBehind()
+                ? new WriteBehindWriter(name.replace(' ', '-'), dataSourceProperties.getWriteBehindInterval(),
+                        this::writeToDisk)
+                : null;
+        this.snapshot = dataSourceProperties.getStorageFormat() == DataSourceProperties.StorageFormat.SMILE
+                ? new BinarySnapshot()
+                : null;
+    }
+
+    void load() {
+        initializeWritePath();
+        Resource resource = resourceLoader.getResource(sourceLocation);
+        sourceIsWriteFile = isSameFile(resource, writeFilePath);
+        byte[] content = readSource(resource);
+        if (loadSnapshot(content != null ? checksum(content) : null)) {
+            return;
+        }
+        value = content != null ? parse(content) : null;
+        if (value != null) {
+            sourceChecksum = checksum(content);
+            lastFileChecksum = sourceChecksum;
+            log.info("Successfully loaded {} from: {}", name, sourceLocation);
+        } else {
+            // An unreadable JSON file does not make an existing snapshot any less valid
+            if (loadSnapshot(null)) {
+                return;
+            }
+            log.info("Initializing with empty {}", name);
+            value = immutableCopy.apply(empty.get());
+        }
+        if (snapshot != null && dataSourceProperties.isPersistChanges()) {
+            importIntoSnapshot();
+        }
+    }
+
+    private byte[] readSource(Resource resource) {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            log.error("Failed to load {} from: {}", name, sourceLocation, e);
+            return null;
+        }
+    }
+
+    private T parse(byte[] content) {
+        try {
+            return read(content);
+        } catch (IOException e) {
+            log.error("Failed to parse {} from: {}", name, sourceLocation, e);
+            return null;
+        }
+    }
+
+    /**
+     * Loads the snapshot unless the JSON file has changed since the snapshot
+     * was imported from it ({@code jsonChecksum} differs from the snapshot's
+     * source), in which case the JSON file wins. A null checksum accepts any snapshot.
+     */
+    private boolean loadSnapshot(Long jsonChecksum) {
+        if (snapshot == null || !Files.exists(snapshotPath)) {
+            return false;
+        }
+        try {
+            BinarySnapshot.Contents<T> contents = snapshot.readContents(snapshotPath, type);
+            if (jsonChecksum != null && contents.sourceChecksum() != jsonChecksum) {
+                log.info("File {} changed since snapshot {} was taken, importing it again", sourceLocation, snapshotPath);
+                if (!contents.sourceCurrent()) {
+                    log.warn("Changes to {} saved only to snapshot {} are replaced by the new file", name, snapshotPath);
+                }
+                return false;
+            }
+            value = immutableCopy.apply(canonicalizer.apply(contents.value()));
+            sourceChecksum = contents.sourceChecksum();
+            jsonStale = !contents.sourceCurrent();
+            // Reloads compare against the file as it is on disk, not as it was at the last import
+            lastFileChecksum = fileChecksum(writeFilePath);
+            log.info("Successfully loaded {} from snapshot: {}", name, snapshotPath.toAbsolutePath());
+            return true;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable {} snapshot {}, loading JSON instead: {}", name, snapshotPath, e.getMessage());
+            return false;
+        }
+    }
+
+    private void importIntoSnapshot() {
+        try {
+            snapshot.write(snapshotPath, value, sourceChecksum, true);
+            log.info("Imported {} from JSON into snapshot: {}", name, snapshotPath.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("Failed to create {} snapshot {}, will retry on the next save: {}", name, snapshotPath, e.getMessage());
+        }
+    }
+
+    // Whether the JSON file read on startup is also the one saves and exports rewrite
+    private static boolean isSameFile(Resource resource, Path path) {
+        try {
+            return resource.isFile() && Files.exists(path) && Files.isSameFile(resource.getFile().toPath(), path);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void initializeWritePath() {
+        // If classpath, try to resolve to actual file system path
+        if (writeLocation.startsWith("classpath:")) {
+            String relativePath = writeLocation.substring("classpath:".length());
+            // Try src/main/resources first (dev), then current dir
+            Path devPath = Paths.get("src/main/resources", relativePath);
+            if (Files.exists(devPath)) {
+                writeFilePath = devPath;
+                log.info("Write path for {} resolved to: {}", name, writeFilePath.toAbsolutePath());
+            } else {
+                writeFilePath = Paths.get(relativePath);
+                log.warn("Using relative path for {} writes: {}", name, writeFilePath.toAbsolutePath());
+            }
+        } else {
+            writeFilePath = Paths.get(writeLocation);
+            log.info("Using configured write path for {}: {}", name, writeFilePath.toAbsolutePath());
+        }
+        snapshotPath = snapshot != null ? BinarySnapshot.pathFor(writeFilePath) : null;
+    }
+
+    Path getWatchedFile() {
+        return writeFilePath;
+    }
+
+    /**
+     * Re-reads the JSON file after an external edit and swaps the new value in.
+     * Content identical to what was last loaded or written (our own saves) is
+     * skipped. A file that predates unwritten saves is rejected: it is copied
+     * aside and those saves are written over it.
+     *
+     * @param diff the events describing the change from the current value to the reloaded one
+     * @return those events, or {@code null} if nothing was reloaded
+     */
+    List<FileDataReloadedEvent> reloadFromDisk(BiFunction<T, T, List<FileDataReloadedEvent>> diff) {
+        List<FileDataReloadedEvent> events;
+        Path rejected = null;
+        // No write of ours can land between reading the file and swapping it in
+        diskLock.lock();
+        try {
+            byte[] content;
+            T reloaded;
+            try {
+                content = Files.readAllBytes(writeFilePath);
+                if (checksum(content) == lastFileChecksum) {
+                    log.debug("File {} unchanged, skipping reload", writeFilePath);
+                    return null;
+                }
+                reloaded = read(content);
+            } catch (IOException e) {
+                // Usually an editor mid-save; the next change event retries
+                log.warn("Skipping reload of {}: {}", writeFilePath, e.getMessage());
+                return null;
+            }
+
+            lock.lock();
+            try {
+                if (hasUnexportedChanges()) {
+                    events = null;
+                    // Kept before anything of ours can be written over it
+                    rejected = keepRejected(content);
+                    if (rejected == null) {
+                        return null;
+                    }
+                } else {
+                    events = diff.apply(value, reloaded);
+                    value = reloaded;
+                    lastFileChecksum = checksum(content);
+                    if (sourceIsWriteFile) {
+                        sourceChecksum = lastFileChecksum;
+                    }
+                    if (snapshot != null && dataSourceProperties.isPersistChanges()) {
+                        importIntoSnapshot();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            diskLock.unlock();
+        }
+        if (events == null) {
+            meterRegistry.counter("portfolio.file.reload.rejected", "file", writeFilePath.getFileName().toString())
+                    .increment();
+            log.error("Rejected change to {}: it predates changes to {} not yet written to it. "
+                            + "The change was kept in {}; {} is rewritten from memory, so merge it from there",
+                    writeFilePath, name, rejected, writeFilePath);
+            flushAndExport(true);
+            return null;
+        }
+        log.info("Reloaded {} from {}", name, writeFilePath);
+        return events;
+    }
+
+    /**
+     * The current value, unmodifiable. It is never changed in place, so it can
+     * be iterated while a change is being applied.
+     */
+    T get() {
+        return value;
+    }
+
+    /**
+     * Applies a change to a copy of the value and publishes it, so readers and
+     * saves see the value either before or after the whole change, then saves.
+     */
+    void modify(Consumer<T> change) {
+        lock.lock();
+        try {
+            T changed = mutableCopy.apply(value);
+            change.accept(changed);
+            value = immutableCopy.apply(changed);
+            markUnsaved();
+        } finally {
+            lock.unlock();
+        }
+        writeIfSynchronous();
+    }
+
+    void save() {
+        lock.lock();
+        try {
+            markUnsaved();
+        } finally {
+            lock.unlock();
+        }
+        writeIfSynchronous();
+    }
+
+    /**
+     * Records a change as not yet on disk before the lock is released, so a
+     * reload waiting for the lock does not take the file for current and
+     * replace the change with it.
+     */
+    private void markUnsaved() {
+        if (!dataSourceProperties.isPersistChanges()) {
+            log.debug("Persistence disabled, skipping {} file write", name);
+            return;
+        }
+        if (writeBehindWriter != null) {
+            writeBehindWriter.markDirty();
+        } else {
+            unsaved = true;
+        }
+    }
+
+    private void writeIfSynchronous() {
+        if (dataSourceProperties.isPersistChanges() && writeBehindWriter == null) {
+            writeToDisk();
+        }
+    }
+
+    // Serializes the value as published; changes go through modify(), which never changes it in place
+    private void writeToDisk() {
+        diskLock.lock();
+        try {
+            // Cleared before the value is read, so a change published meanwhile stays unsaved
+            unsaved = false;
+            T current = value;
+            if (snapshot != null) {
+                snapshot.write(snapshotPath, current, sourceChecksum, false);
+                jsonStale = true;
+                log.info("Successfully saved {} to snapshot: {}", name, snapshotPath.toAbsolutePath());
+            } else {
+                writeJson(current);
+            }
+        } catch (IOException e) {
+            unsaved = true;
+            log.error("Failed to save {} to: {}", name, snapshot != null ? snapshotPath : writeFilePath, e);
+            throw new RuntimeException("Failed to persist " + name + " to file", e);
+        } finally {
+            diskLock.unlock();
+        }
+    }
+
+    private void writeJson(T current) throws IOException {
+        // Write with pretty printing, then swap the file in atomically
+        byte[] content = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(current);
+        lastFileChecksum = checksum(content);
+        AtomicFileWriter.write(writeFilePath, content);
+        log.info("Successfully saved {} to: {}", name, writeFilePath.toAbsolutePath());
+    }
+
+    /**
+     * Copies a rejected edit next to the JSON file, or returns {@code null}
+     * and leaves the edit in place if that fails.
+     */
+    private Path keepRejected(byte[] content) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS"));
+        Path rejected = writeFilePath.resolveSibling(writeFilePath.getFileName() + ".rejected-" + timestamp);
+        try {
+            AtomicFileWriter.write(rejected, content);
+            return rejected;
+        } catch (IOException e) {
+            log.error("Could not keep the rejected change to {} in {}; leaving it in place until the next export",
+                    writeFilePath, rejected, e);
+            return null;
+        }
+    }
+
+    private T read(byte[] content) throws IOException {
+        return immutableCopy.apply(canonicalizer.apply(objectMapper.readValue(content, type)));
+    }
+
+    private static long fileChecksum(Path path) {
+        try {
+            return Files.exists(path) ? checksum(Files.readAllBytes(path)) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long checksum(byte[] content) {
+        CRC32C crc = new CRC32C();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    void close() {
+        if (writeBehindWriter != null) {
+            writeBehindWriter.close();
+        }
+        // Keep the JSON file current as the editable export of the snapshot
+        exportJson(false);
+    }
+
+    /**
+     * Whether the file holds less than memory does: changes not yet saved,
+     * saves still queued for write-behind, or snapshot-only saves not yet
+     * exported. Reloading it then would replace those changes with its older content.
+     */
+    private boolean hasUnexportedChanges() {
+        return unsaved || jsonStale || (writeBehindWriter != null && writeBehindWriter.hasPendingWrites());
+    }
+
+    // Not under either lock: the write-behind flush takes them itself
+    private void flushAndExport(boolean force) {
+        if (writeBehindWriter != null) {
+            writeBehindWriter.flush();
+        }
+        exportJson(force);
+    }
+
+    // Forced, rewrites the JSON file even if it is current with the saves
+    private void exportJson(boolean force) {
+        diskLock.lock();
+        try {
+            if (!jsonStale && !force) {
+                return;
+            }
+            // The snapshot must match the JSON even if a change is published meanwhile
+            T current = value;
+            writeJson(current);
+            jsonStale = false;
+            // The JSON file now holds everything; the next startup can trust either
+            if (sourceIsWriteFile) {
+                sourceChecksum = lastFileChecksum;
+            }
+            if (snapshot != null) {
+                snapshot.write(snapshotPath, current, sourceChecksum, true);
+            }
+        } catch (IOException e) {
+            log.error("Failed to export {} to JSON: {}", name, writeFilePath, e);
+        } finally {
+            diskLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.portfolio.backend.provider.file;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A filtered, sorted view over FILE-mode data that is maintained on write
+ * instead of being re-derived on every read. Updates are O(log n) against a
+ * tree index; reads return an immutable snapshot that is only rebuilt (by a
+ * linear copy, no sorting) on the first read after a write.
+ *
+ * <p>Sort keys are captured when an item is indexed, so an item that was
+ * mutated in place before being saved can still be found and re-positioned.
+ */
+public class SortedReadModel<T, K> {
+
+    private record IndexKey<K>(K key, long id) {
+    }
+
+    private final Function<T, Long> idOf;
+    private final Function<T, K> keyOf;
+    private final Predicate<T> filter;
+    private final TreeMap<IndexKey<K>, T> index;
+    private final Map<Long, IndexKey<K>> keysById = new HashMap<>();
+    private volatile List<T> snapshot = List.of();
+    private long anonymousIds;
+
+    public SortedReadModel(Function<T, Long> idOf, Function<T, K> keyOf, Comparator<K> keyOrder,
+                           Predicate<T> filter) {
+        this.idOf = idOf;
+        this.keyOf = keyOf;
+        this.filter = filter;
+        this.index = new TreeMap<>(Comparator.comparing((IndexKey<K> indexKey) -> indexKey.key(), keyOrder)
+                .thenComparingLong(IndexKey::id));
+    }
+
+    public SortedReadModel(Function<T, Long> idOf, Function<T, K> keyOf, Comparator<K> keyOrder) {
+        this(idOf, keyOf, keyOrder, item -> true);
+    }
+
+    public synchronized void reset(Collection<T> items) {
+        index.clear();
+        keysById.clear();
+        anonymousIds = 0;
+        items.forEach(this::index);
+        snapshot = null;
+    }
+
+    public synchronized void put(T item) {
+        unindex(idOf.apply(item));
+        index(item);
+        snapshot = null;
+    }
+
+    public synchronized void remove(Long id) {
+        unindex(id);
+        snapshot = null;
+    }
+
+    public List<T> list() {
+        List<T> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = List.copyOf(index.values());
+            }
+            return snapshot;
+        }
+    }
+
+    private void index(T item) {
+        if (!filter.test(item)) {
+            return;
+        }
+        // Hand-edited files may omit ids; such items are listed but cannot be updated by id
+        Long id = idOf.apply(item);
+        IndexKey<K> key = new IndexKey<>(keyOf.apply(item), id != null ? id : --anonymousIds);
+        index.put(key, item);
+        if (id != null) {
+            keysById.put(id, key);
+        }
+    }
+
+    private void unindex(Long id) {
+        IndexKey<K> key = id != null ? keysById.remove(id) : null;
+        if (key != null) {
+            index.remove(key);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.portfolio.backend.provider.file;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces FILE-mode saves: callers only mark the store dirty, and a single
+ * background thread writes it at most once per interval. Any number of
+ * mutations within an interval cost one disk write. {@link #close()} flushes
+ * pending changes, so a graceful shutdown loses nothing.
+ */
+@Slf4j
+public class WriteBehindWriter implements AutoCloseable {
+
+    private final String name;
+    private final Runnable write;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicLong requestedWrites = new AtomicLong();
+    private final AtomicLong completedWrites = new AtomicLong();
+    // requestedWrites as of the start of the last successful flush
+    private volatile long flushedRequests;
+    private final ScheduledExecutorService scheduler;
+
+    public WriteBehindWriter(String name, Duration interval, Runnable write) {
+        this.name = name;
+        this.write = write;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void markDirty() {
+        requestedWrites.incrementAndGet();
+        dirty.set(true);
+    }
+
+    public synchronized void flush() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        long requested = requestedWrites.get();
+        try {
+            write.run();
+            flushedRequests = requested;
+            long completed = completedWrites.incrementAndGet();
+            log.debug("Write-behind flush of {}: {} saves coalesced into {} writes",
+                    name, requestedWrites.get(), completed);
+        } catch (RuntimeException e) {
+            // Stay dirty so the next interval retries with fresh state
+            dirty.set(true);
+            log.error("Write-behind flush of {} failed, will retry", name, e);
+        }
+    }
+
+    /**
+     * Whether some save has not reached disk yet, including one a flush is
+     * writing right now.
+     */
+    public boolean hasPendingWrites() {
+        return requestedWrites.get() != flushedRequests;
+    }
+
+    public long getRequestedWrites() {
+        return requestedWrites.get();
+    }
+
+    public long getCompletedWrites() {
+        return completedWrites.get();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("Write-behind writer for {} closed ({} saves, {} writes)", name, requestedWrites.get(), completedWrites.get());
+    }
+}
@@ -0,0 +1,20 @@
+package com.portfolio.backend.querycount;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a request to this endpoint may execute,
+ * including lazy loads while the response is serialized. Cache hits execute
+ * none, so the budget is the cold-cache cost. See QUERY-BUDGETS.md.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface QueryBudget {
+
+    int value();
+}
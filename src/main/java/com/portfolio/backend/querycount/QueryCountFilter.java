@@ -0,0 +1,69 @@
+package com.portfolio.backend.querycount;
+
+import com.portfolio.backend.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements and rows of each request and records them as
+ * {@code portfolio.db.statements} and {@code portfolio.db.rows} summaries,
+ * tagged with the method and URI template like {@code http.server.requests}.
+ * Requests over their {@link QueryBudget} also increment
+ * {@code portfolio.db.budget.exceeded}.
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "DATABASE", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetProperties queryBudgetProperties;
+
+    public QueryCountFilter(MeterRegistry meterRegistry, QueryBudgetProperties queryBudgetProperties) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudgetProperties = queryBudgetProperties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StatementCounter counter = StatementCounter.begin(queryBudgetProperties.isEnforce());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            StatementCounter.end();
+            record(request, counter);
+        }
+    }
+
+    private void record(HttpServletRequest request, StatementCounter counter) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+        DistributionSummary.builder("portfolio.db.statements")
+                .description("SQL statements executed per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(counter.statements());
+        DistributionSummary.builder("portfolio.db.rows")
+                .description("Rows fetched per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(counter.rows());
+        if (counter.exceeded()) {
+            meterRegistry.counter("portfolio.db.budget.exceeded", tags).increment();
+        }
+    }
+}
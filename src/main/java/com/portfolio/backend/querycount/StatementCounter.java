@@ -0,0 +1,85 @@
+package com.portfolio.backend.querycount;
+
+import com.portfolio.backend.exception.QueryBudgetExceededException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-request count of SQL statements executed and rows fetched, fed by
+ * {@link StatementCountingDataSource}. Bound to the request thread by
+ * {@link QueryCountFilter}; statements on other threads (startup seeding,
+ * transfers, replica health checks) are not attributed to any request.
+ *
+ * <p>A request may carry a statement budget from {@link QueryBudget}. Going
+ * over it is logged once, or, when enforcing, fails the statement that
+ * crosses it, before it reaches the database.
+ */
+@Slf4j
+public final class StatementCounter {
+
+    private static final ThreadLocal<StatementCounter> CURRENT = new ThreadLocal<>();
+
+    private final boolean enforce;
+    private long statements;
+    private long rows;
+    private int budget = -1;
+    private String endpoint;
+    private boolean exceeded;
+
+    private StatementCounter(boolean enforce) {
+        this.enforce = enforce;
+    }
+
+    static StatementCounter begin(boolean enforce) {
+        StatementCounter counter = new StatementCounter(enforce);
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void budget(int budget, String endpoint) {
+        StatementCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.budget = budget;
+            counter.endpoint = endpoint;
+        }
+    }
+
+    static void statement() {
+        StatementCounter counter = CURRENT.get();
+        if (counter == null) {
+            return;
+        }
+        counter.statements++;
+        if (counter.budget >= 0 && counter.statements > counter.budget && !counter.exceeded) {
+            counter.exceeded = true;
+            String message = String.format("%s executed %d SQL statements, budget is %d",
+                    counter.endpoint, counter.statements, counter.budget);
+            if (counter.enforce) {
+                throw new QueryBudgetExceededException(message);
+            }
+            log.warn("Query budget exceeded: {}", message);
+        }
+    }
+
+    static void row() {
+        StatementCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.rows++;
+        }
+    }
+
+    long statements() {
+        return statements;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    boolean exceeded() {
+        return exceeded;
+    }
+}
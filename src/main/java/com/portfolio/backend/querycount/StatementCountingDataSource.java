@@ -0,0 +1,90 @@
+package com.portfolio.backend.querycount;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Counts statement executions and fetched rows into the current request's
+ * {@link StatementCounter}. Connections, statements and result sets are
+ * wrapped in thin JDK proxies; everything else passes straight through, and
+ * {@code unwrap} still reaches the pool (e.g. for Hikari metrics).
+ *
+ * <p>A batch counts as one statement, matching one round trip.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTIONS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final Set<String> RESULT_SET_SOURCES = Set.of("executeQuery", "getResultSet");
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection(), StatementCountingDataSource::onConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection(username, password),
+                StatementCountingDataSource::onConnection);
+    }
+
+    private static Object onConnection(Method method, Object result) {
+        if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+            return wrap(method.getReturnType(), statement, StatementCountingDataSource::onStatement);
+        }
+        return result;
+    }
+
+    private static Object onStatement(Method method, Object result) {
+        if (result instanceof ResultSet resultSet && RESULT_SET_SOURCES.contains(method.getName())) {
+            return wrap(ResultSet.class, resultSet, (resultSetMethod, value) -> {
+                if (Boolean.TRUE.equals(value) && resultSetMethod.getName().equals("next")) {
+                    StatementCounter.row();
+                }
+                return value;
+            });
+        }
+        return result;
+    }
+
+    private interface ResultHandler {
+        Object handle(Method method, Object result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(Class<?> type, Object target, ResultHandler resultHandler) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            // Hibernate keys statements by identity in its resource registry
+            if (method.getName().equals("equals") && args != null && args.length == 1) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode") && args == null) {
+                return System.identityHashCode(proxy);
+            }
+            if (EXECUTIONS.contains(method.getName()) && target instanceof Statement) {
+                StatementCounter.statement();
+            }
+            try {
+                return resultHandler.handle(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return (T) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
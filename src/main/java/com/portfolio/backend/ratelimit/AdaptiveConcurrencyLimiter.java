@@ -0,0 +1,79 @@
+package com.portfolio.backend.ratelimit;
+
+import com.portfolio.backend.config.RateLimitProperties;
+
+/**
+ * Concurrency limit that adapts to queueing latency, the latency of a request
+ * above the fastest one seen while the instance was not shedding. Samples over
+ * the threshold shrink the limit multiplicatively, at most once per sample
+ * duration; faster samples grow it by one while the limit is being used.
+ * Requests arriving with the limit reached are rejected rather than queued.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long thresholdNanos;
+    private final double backoffRatio;
+    private final long windowNanos;
+
+    private int limit;
+    private int inFlight;
+    private long baseline = Long.MAX_VALUE;
+    private long windowMin = Long.MAX_VALUE;
+    private long windowEnd;
+    private boolean shedInWindow;
+    private long lastDecrease;
+
+    AdaptiveConcurrencyLimiter(RateLimitProperties.Concurrency properties, long now) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.thresholdNanos = properties.getQueueingThreshold().toNanos();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.windowNanos = properties.getBaselineWindow().toNanos();
+        this.limit = properties.getInitialLimit();
+        this.windowEnd = now + windowNanos;
+    }
+
+    synchronized boolean tryAcquire() {
+        if (inFlight >= limit) {
+            shedInWindow = true;
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    synchronized void release(long latencyNanos, long now) {
+        boolean saturated = inFlight * 2 >= limit;
+        inFlight--;
+        if (now - windowEnd >= 0) {
+            // Re-learn the no-load latency only from windows without shedding
+            if (!shedInWindow && windowMin != Long.MAX_VALUE) {
+                baseline = windowMin;
+            }
+            windowMin = Long.MAX_VALUE;
+            shedInWindow = false;
+            windowEnd = now + windowNanos;
+        }
+        windowMin = Math.min(windowMin, latencyNanos);
+        baseline = Math.min(baseline, latencyNanos);
+
+        if (latencyNanos - baseline > thresholdNanos) {
+            if (now - lastDecrease > latencyNanos) {
+                limit = Math.max(minLimit, (int) (limit * backoffRatio));
+                lastDecrease = now;
+            }
+        } else if (saturated) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    synchronized int limit() {
+        return limit;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,24 @@
+package com.portfolio.backend.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an expensive endpoint: each client gets a token bucket of {@code burst}
+ * requests refilled at {@code perMinute}, and the endpoint is covered by the
+ * adaptive concurrency limit. Both can be overridden per method through
+ * {@code portfolio.rate-limit.endpoints[Controller.method]}. See RATE-LIMITING.md.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RateLimit {
+
+    int perMinute();
+
+    // Requests a client can make at once before the refill rate applies
+    int burst();
+}
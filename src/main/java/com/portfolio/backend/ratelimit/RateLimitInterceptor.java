@@ -0,0 +1,142 @@
+package com.portfolio.backend.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.backend.config.RateLimitProperties;
+import com.portfolio.backend.exception.RateLimitExceededException;
+import com.portfolio.backend.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guards {@link RateLimit} endpoints: first the client's token bucket for the
+ * endpoint (429), then the shared {@link AdaptiveConcurrencyLimiter} (503).
+ * Endpoints without the annotation, such as the cached GETs, pass straight
+ * through and never wait behind the expensive ones.
+ *
+ * <p>Buckets are keyed by client address and endpoint, and dropped after ten
+ * minutes without requests, by which time they would have refilled anyway.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_START = RateLimitInterceptor.class.getName() + ".permitStart";
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Map<Method, Optional<EndpointLimit>> limits = new ConcurrentHashMap<>();
+    private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .maximumSize(100_000)
+            .build();
+
+    public RateLimitInterceptor(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(properties.getConcurrency(), System.nanoTime());
+        Gauge.builder("portfolio.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::limit)
+                .description("Current adaptive concurrency limit of rate-limited endpoints")
+                .register(meterRegistry);
+        Gauge.builder("portfolio.concurrency.in-flight", concurrencyLimiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("Requests in flight on rate-limited endpoints")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        EndpointLimit limit = limits.computeIfAbsent(handlerMethod.getMethod(),
+                method -> Optional.ofNullable(resolve(handlerMethod))).orElse(null);
+        if (limit == null) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        if (properties.isEnabled()) {
+            TokenBucket bucket = buckets.get(clientAddress(request) + " " + limit.name(),
+                    key -> new TokenBucket(limit.burst(), limit.perMinute(), now));
+            long waitNanos = bucket.tryConsume(now);
+            if (waitNanos > 0) {
+                meterRegistry.counter("portfolio.ratelimit.rejected", "endpoint", limit.name()).increment();
+                throw new RateLimitExceededException("Rate limit exceeded for " + limit.name(),
+                        Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+            }
+        }
+        if (properties.getConcurrency().isEnabled()) {
+            if (!concurrencyLimiter.tryAcquire()) {
+                meterRegistry.counter("portfolio.concurrency.rejected", "endpoint", limit.name()).increment();
+                throw new ServiceOverloadedException("Server is busy, try again shortly");
+            }
+            request.setAttribute(PERMIT_START, now);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(PERMIT_START) instanceof Long start) {
+            request.removeAttribute(PERMIT_START);
+            long now = System.nanoTime();
+            concurrencyLimiter.release(now - start, now);
+        }
+    }
+
+    private EndpointLimit resolve(HandlerMethod handlerMethod) {
+        RateLimit annotation = handlerMethod.getMethodAnnotation(RateLimit.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), RateLimit.class);
+        }
+        if (annotation == null) {
+            return null;
+        }
+        String name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        RateLimitProperties.Limit override = properties.getEndpoints().get(name);
+        int perMinute = override != null && override.getPerMinute() != null
+                ? override.getPerMinute() : annotation.perMinute();
+        int burst = override != null && override.getBurst() != null ? override.getBurst() : annotation.burst();
+        return new EndpointLimit(name, perMinute, burst);
+    }
+
+    /**
+     * The address the first trusted proxy saw the request come from. Each
+     * trusted proxy appends its peer to X-Forwarded-For, so with N of them the
+     * client is the Nth entry from the right; entries left of it are whatever
+     * the client sent. Without trusted proxies the header is the client's own
+     * and is ignored.
+     */
+    private String clientAddress(HttpServletRequest request) {
+        int trustedProxies = properties.getTrustedProxyHops();
+        if (trustedProxies <= 0) {
+            return request.getRemoteAddr();
+        }
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            String[] hops = forwardedFor.split(",");
+            int index = hops.length - trustedProxies;
+            if (index >= 0) {
+                return hops[index].trim();
+            }
+        }
+        // Fewer entries than trusted proxies: the request bypassed part of the chain
+        return request.getRemoteAddr();
+    }
+
+    private record EndpointLimit(String name, int perMinute, int burst) {
+    }
+}
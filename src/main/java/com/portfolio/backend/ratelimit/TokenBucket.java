@@ -0,0 +1,34 @@
+package com.portfolio.backend.ratelimit;
+
+/**
+ * Token bucket refilled lazily on each attempt, so idle buckets cost nothing.
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(int burst, int perMinute, long now) {
+        this.capacity = burst;
+        this.tokensPerNano = perMinute / 60_000_000_000.0;
+        this.tokens = burst;
+        this.lastRefill = now;
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return 0 if the request may proceed, otherwise the nanoseconds until the next token
+     */
+    synchronized long tryConsume(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
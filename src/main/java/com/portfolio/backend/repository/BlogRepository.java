@@ -1,7 +1,10 @@
 package com.portfolio.backend.repository;
 
 import com.portfolio.backend.entity.Blog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.query.Param;
@@ -14,10 +17,12 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
     
     @EntityGraph(attributePaths = {"tags"})
     @Query("SELECT b FROM Blog b WHERE b.slug = :slug")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Blog> findBySlug(String slug);
     
     @EntityGraph(attributePaths = {"tags"})
     @Query("SELECT b FROM Blog b WHERE b.published = true ORDER BY b.date DESC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Blog> findByPublishedTrueOrderByDateDesc();
     
     @EntityGraph(attributePaths = {"tags"})
@@ -29,6 +34,7 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
     
     @Override
     @EntityGraph(attributePaths = {"tags"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Blog> findAll();
     
     @Override
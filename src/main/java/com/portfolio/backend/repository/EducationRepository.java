@@ -1,11 +1,15 @@
 package com.portfolio.backend.repository;
 
 import com.portfolio.backend.entity.Education;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface EducationRepository extends JpaRepository<Education, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Education> findAllByOrderByDisplayOrder();
 }
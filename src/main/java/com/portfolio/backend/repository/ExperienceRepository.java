@@ -1,7 +1,10 @@
 package com.portfolio.backend.repository;
 
 import com.portfolio.backend.entity.Experience;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -13,10 +16,12 @@ public interface ExperienceRepository extends JpaRepository<Experience, Long> {
     
     @EntityGraph(attributePaths = {"description"})
     @Query("SELECT e FROM Experience e ORDER BY e.displayOrder")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Experience> findAllByOrderByDisplayOrder();
     
     @Override
     @EntityGraph(attributePaths = {"description"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Experience> findAll();
     
     @Override
@@ -1,9 +1,17 @@
 package com.portfolio.backend.repository;
 
 import com.portfolio.backend.entity.PersonalInfo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 
 @Repository
 public interface PersonalInfoRepository extends JpaRepository<PersonalInfo, Long> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<PersonalInfo> findAll();
 }
@@ -1,7 +1,10 @@
 package com.portfolio.backend.repository;
 
 import com.portfolio.backend.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -13,14 +16,17 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     
     @EntityGraph(attributePaths = {"tags"})
     @Query("SELECT p FROM Project p WHERE p.featured = true ORDER BY p.displayOrder ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Project> findByFeaturedTrueOrderByDisplayOrderAsc();
     
     @EntityGraph(attributePaths = {"tags"})
     @Query("SELECT p FROM Project p ORDER BY p.displayOrder ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Project> findAllByOrderByDisplayOrderAsc();
     
     @Override
     @EntityGraph(attributePaths = {"tags"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Project> findAll();
     
     @Override
@@ -1,7 +1,10 @@
 package com.portfolio.backend.repository;
 
 import com.portfolio.backend.entity.Skill;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -13,10 +16,12 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     
     @EntityGraph(attributePaths = {"items"})
     @Query("SELECT s FROM Skill s ORDER BY s.displayOrder")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Skill> findAllByOrderByDisplayOrder();
     
     @Override
     @EntityGraph(attributePaths = {"items"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Skill> findAll();
     
     @Override
@@ -15,7 +15,7 @@ public class AchievementService {
 
     private final AchievementDataProvider achievementDataProvider;
 
-    @Cacheable(ACHIEVEMENTS_CACHE)
+    @Cacheable(value = ACHIEVEMENTS_CACHE, sync = true)
     public List<Achievement> getAllAchievements() {
         return achievementDataProvider.findAllByOrderByDisplayOrder();
     }
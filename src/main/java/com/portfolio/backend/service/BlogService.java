@@ -1,15 +1,24 @@
 package com.portfolio.backend.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.backend.dto.BlogDTO;
+import com.portfolio.backend.dto.PrecompressedResponse;
 import com.portfolio.backend.entity.Blog;
+import com.portfolio.backend.consistency.CollectionVersions;
 import com.portfolio.backend.exception.ResourceNotFoundException;
 import com.portfolio.backend.provider.BlogDataProvider;
+import com.portfolio.backend.tracing.RequestTiming;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static com.portfolio.backend.config.CacheConfig.*;
 
@@ -21,34 +30,41 @@ import java.util.List;
 public class BlogService {
 
     private final BlogDataProvider blogDataProvider;
+    private final CollectionVersions collectionVersions;
     private final ModelMapper modelMapper;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
 
-    @Cacheable(BLOGS_CACHE)
+    @Cacheable(value = BLOGS_CACHE, sync = true)
     public List<BlogDTO> getAllBlogs() {
         return blogDataProvider.findAll().stream()
                 .map(blog -> modelMapper.map(blog, BlogDTO.class))
                 .toList();
     }
 
-    @Cacheable(PUBLISHED_BLOGS_CACHE)
+    @Cacheable(value = PUBLISHED_BLOGS_CACHE, sync = true)
     public List<BlogDTO> getPublishedBlogs() {
         return blogDataProvider.findByPublishedTrueOrderByDateDesc().stream()
                 .map(blog -> modelMapper.map(blog, BlogDTO.class))
                 .toList();
     }
 
-    @Cacheable(value = BLOG_BY_ID_CACHE, key = "#id")
+    @Cacheable(value = BLOG_BY_ID_CACHE, key = "#id", sync = true)
     public BlogDTO getBlogById(Long id) {
         Blog blog = blogDataProvider.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog not found with id: " + id));
         return modelMapper.map(blog, BlogDTO.class);
     }
 
-    @Cacheable(value = BLOG_BY_SLUG_CACHE, key = "#slug")
-    public BlogDTO getBlogBySlug(String slug) {
+    /**
+     * The post's JSON response, serialized and gzip-compressed once and served
+     * as bytes until the post changes. Writes refresh it eagerly.
+     */
+    @Cacheable(value = BLOG_PAYLOAD_BY_SLUG_CACHE, key = "#slug", sync = true)
+    public PrecompressedResponse getBlogPayloadBySlug(String slug) {
         Blog blog = blogDataProvider.findBySlug(slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog not found with slug: " + slug));
-        return modelMapper.map(blog, BlogDTO.class);
+        return precompress(modelMapper.map(blog, BlogDTO.class));
     }
 
     public List<BlogDTO> searchBlogs(String query) {
@@ -74,14 +90,18 @@ public class BlogService {
         }
         
         Blog savedBlog = blogDataProvider.save(blog);
-        return modelMapper.map(savedBlog, BlogDTO.class);
+        collectionVersions.recordWrite(CollectionVersions.BLOGS);
+        BlogDTO savedBlogDTO = modelMapper.map(savedBlog, BlogDTO.class);
+        refreshPayload(null, savedBlogDTO);
+        return savedBlogDTO;
     }
 
     @Transactional
-    @CacheEvict(value = {BLOGS_CACHE, PUBLISHED_BLOGS_CACHE, BLOG_BY_ID_CACHE, BLOG_BY_SLUG_CACHE}, allEntries = true)
+    @CacheEvict(value = {BLOGS_CACHE, PUBLISHED_BLOGS_CACHE, BLOG_BY_ID_CACHE}, allEntries = true)
     public BlogDTO updateBlog(Long id, BlogDTO blogDTO) {
         Blog existingBlog = blogDataProvider.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog not found with id: " + id));
+        String previousSlug = existingBlog.getSlug();
 
         existingBlog.setTitle(blogDTO.getTitle());
         existingBlog.setSlug(blogDTO.getSlug() != null ? blogDTO.getSlug() : generateSlug(blogDTO.getTitle()));
@@ -93,16 +113,60 @@ public class BlogService {
         existingBlog.setPublished(blogDTO.getPublished());
 
         Blog updatedBlog = blogDataProvider.save(existingBlog);
-        return modelMapper.map(updatedBlog, BlogDTO.class);
+        collectionVersions.recordWrite(CollectionVersions.BLOGS);
+        BlogDTO updatedBlogDTO = modelMapper.map(updatedBlog, BlogDTO.class);
+        refreshPayload(previousSlug, updatedBlogDTO);
+        return updatedBlogDTO;
     }
 
     @Transactional
-    @CacheEvict(value = {BLOGS_CACHE, PUBLISHED_BLOGS_CACHE, BLOG_BY_ID_CACHE, BLOG_BY_SLUG_CACHE}, allEntries = true)
+    @CacheEvict(value = {BLOGS_CACHE, PUBLISHED_BLOGS_CACHE, BLOG_BY_ID_CACHE}, allEntries = true)
     public void deleteBlog(Long id) {
-        if (!blogDataProvider.existsById(id)) {
-            throw new ResourceNotFoundException("Blog not found with id: " + id);
-        }
+        Blog blog = blogDataProvider.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Blog not found with id: " + id));
         blogDataProvider.deleteById(id);
+        collectionVersions.recordWrite(CollectionVersions.BLOGS);
+        refreshPayload(blog.getSlug(), null);
+    }
+
+    private PrecompressedResponse precompress(BlogDTO blogDTO) {
+        try (RequestTiming.Scope timing = RequestTiming.enter(RequestTiming.SERIALIZE)) {
+            return PrecompressedResponse.of(objectMapper.writeValueAsBytes(blogDTO));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize blog: " + blogDTO.getSlug(), e);
+        }
+    }
+
+    /**
+     * Compresses the written post now, on the write path, so the first read
+     * after an edit is as cheap as every other. Applied after commit so a
+     * rolled-back write never becomes visible through the cache.
+     */
+    private void refreshPayload(String previousSlug, BlogDTO blogDTO) {
+        Cache cache = cacheManager.getCache(BLOG_PAYLOAD_BY_SLUG_CACHE);
+        if (cache == null) {
+            return;
+        }
+        PrecompressedResponse payload = blogDTO != null ? precompress(blogDTO) : null;
+        Runnable apply = () -> {
+            // Replaced in place when the slug stays, so an admission threshold keeps an edited post cached
+            if (previousSlug != null && (payload == null || !previousSlug.equals(blogDTO.getSlug()))) {
+                cache.evict(previousSlug);
+            }
+            if (payload != null) {
+                cache.put(blogDTO.getSlug(), payload);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
     }
 
     private String generateSlug(String title) {
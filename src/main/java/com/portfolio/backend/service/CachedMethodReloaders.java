@@ -0,0 +1,44 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.consistency.CacheReloaders;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static com.portfolio.backend.config.CacheConfig.*;
+
+/**
+ * The {@code @Cacheable} service methods by cache, called through the injected
+ * proxies so a refresh goes through the cache interceptor. Keys are the
+ * methods' own cache keys: the id or slug, or none for the lists.
+ */
+@Component
+public class CachedMethodReloaders implements CacheReloaders {
+
+    private final Map<String, Consumer<Object>> reloaders;
+
+    public CachedMethodReloaders(BlogService blogService, ProjectService projectService,
+                                 ExperienceService experienceService, SkillService skillService,
+                                 EducationService educationService, AchievementService achievementService,
+                                 PersonalInfoService personalInfoService) {
+        this.reloaders = Map.ofEntries(
+                Map.entry(BLOGS_CACHE, key -> blogService.getAllBlogs()),
+                Map.entry(PUBLISHED_BLOGS_CACHE, key -> blogService.getPublishedBlogs()),
+                Map.entry(BLOG_BY_ID_CACHE, key -> blogService.getBlogById((Long) key)),
+                Map.entry(BLOG_PAYLOAD_BY_SLUG_CACHE, key -> blogService.getBlogPayloadBySlug((String) key)),
+                Map.entry(PROJECTS_CACHE, key -> projectService.getAllProjects()),
+                Map.entry(FEATURED_PROJECTS_CACHE, key -> projectService.getFeaturedProjects()),
+                Map.entry(PROJECT_BY_ID_CACHE, key -> projectService.getProjectById((Long) key)),
+                Map.entry(EXPERIENCES_CACHE, key -> experienceService.getAllExperiences()),
+                Map.entry(SKILLS_CACHE, key -> skillService.getAllSkills()),
+                Map.entry(EDUCATION_CACHE, key -> educationService.getAllEducation()),
+                Map.entry(ACHIEVEMENTS_CACHE, key -> achievementService.getAllAchievements()),
+                Map.entry(PERSONAL_INFO_CACHE, key -> personalInfoService.getPersonalInfo()));
+    }
+
+    @Override
+    public Consumer<Object> reloaderOf(String cacheName) {
+        return reloaders.get(cacheName);
+    }
+}
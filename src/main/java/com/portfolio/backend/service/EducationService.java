@@ -15,7 +15,7 @@ public class EducationService {
 
     private final EducationDataProvider educationDataProvider;
 
-    @Cacheable(EDUCATION_CACHE)
+    @Cacheable(value = EDUCATION_CACHE, sync = true)
     public List<Education> getAllEducation() {
         return educationDataProvider.findAllByOrderByDisplayOrder();
     }
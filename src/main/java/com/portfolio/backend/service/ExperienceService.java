@@ -15,7 +15,7 @@ public class ExperienceService {
 
     private final ExperienceDataProvider experienceDataProvider;
 
-    @Cacheable(EXPERIENCES_CACHE)
+    @Cacheable(value = EXPERIENCES_CACHE, sync = true)
     public List<Experience> getAllExperiences() {
         return experienceDataProvider.findAllByOrderByDisplayOrder();
     }
@@ -1,5 +1,6 @@
 package com.portfolio.backend.service;
 
+import com.portfolio.backend.consistency.CollectionVersions;
 import com.portfolio.backend.entity.PersonalInfo;
 import com.portfolio.backend.exception.ResourceNotFoundException;
 import com.portfolio.backend.provider.PersonalInfoDataProvider;
@@ -16,8 +17,9 @@ import static com.portfolio.backend.config.CacheConfig.PERSONAL_INFO_CACHE;
 public class PersonalInfoService {
 
     private final PersonalInfoDataProvider personalInfoDataProvider;
+    private final CollectionVersions collectionVersions;
 
-    @Cacheable(PERSONAL_INFO_CACHE)
+    @Cacheable(value = PERSONAL_INFO_CACHE, sync = true)
     public PersonalInfo getPersonalInfo() {
         return personalInfoDataProvider.findFirst()
                 .orElseThrow(() -> new ResourceNotFoundException("Personal info not found"));
@@ -39,6 +41,8 @@ public class PersonalInfoService {
         existing.setTwitterUrl(personalInfo.getTwitterUrl());
         existing.setPortfolioUrl(personalInfo.getPortfolioUrl());
         existing.setResumeUrl(personalInfo.getResumeUrl());
-        return personalInfoDataProvider.save(existing);
+        PersonalInfo saved = personalInfoDataProvider.save(existing);
+        collectionVersions.recordWrite(CollectionVersions.PERSONAL_INFO);
+        return saved;
     }
 }
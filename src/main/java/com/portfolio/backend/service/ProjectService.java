@@ -2,6 +2,7 @@ package com.portfolio.backend.service;
 
 import com.portfolio.backend.dto.ProjectDTO;
 import com.portfolio.backend.entity.Project;
+import com.portfolio.backend.consistency.CollectionVersions;
 import com.portfolio.backend.exception.ResourceNotFoundException;
 import com.portfolio.backend.provider.ProjectDataProvider;
 import lombok.RequiredArgsConstructor;
@@ -20,23 +21,24 @@ import java.util.List;
 public class ProjectService {
 
     private final ProjectDataProvider projectDataProvider;
+    private final CollectionVersions collectionVersions;
     private final ModelMapper modelMapper;
 
-    @Cacheable(PROJECTS_CACHE)
+    @Cacheable(value = PROJECTS_CACHE, sync = true)
     public List<ProjectDTO> getAllProjects() {
         return projectDataProvider.findAllByOrderByDisplayOrderAsc().stream()
                 .map(project -> modelMapper.map(project, ProjectDTO.class))
                 .toList();
     }
 
-    @Cacheable(FEATURED_PROJECTS_CACHE)
+    @Cacheable(value = FEATURED_PROJECTS_CACHE, sync = true)
     public List<ProjectDTO> getFeaturedProjects() {
         return projectDataProvider.findByFeaturedTrueOrderByDisplayOrderAsc().stream()
                 .map(project -> modelMapper.map(project, ProjectDTO.class))
                 .toList();
     }
 
-    @Cacheable(value = PROJECT_BY_ID_CACHE, key = "#id")
+    @Cacheable(value = PROJECT_BY_ID_CACHE, key = "#id", sync = true)
     public ProjectDTO getProjectById(Long id) {
         Project project = projectDataProvider.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
@@ -48,6 +50,7 @@ public class ProjectService {
     public ProjectDTO createProject(ProjectDTO projectDTO) {
         Project project = modelMapper.map(projectDTO, Project.class);
         Project savedProject = projectDataProvider.save(project);
+        collectionVersions.recordWrite(CollectionVersions.PROJECTS);
         return modelMapper.map(savedProject, ProjectDTO.class);
     }
 
@@ -66,6 +69,7 @@ public class ProjectService {
         existingProject.setFeatured(projectDTO.getFeatured());
 
         Project updatedProject = projectDataProvider.save(existingProject);
+        collectionVersions.recordWrite(CollectionVersions.PROJECTS);
         return modelMapper.map(updatedProject, ProjectDTO.class);
     }
 
@@ -76,5 +80,6 @@ public class ProjectService {
             throw new ResourceNotFoundException("Project not found with id: " + id);
         }
         projectDataProvider.deleteById(id);
+        collectionVersions.recordWrite(CollectionVersions.PROJECTS);
     }
 }
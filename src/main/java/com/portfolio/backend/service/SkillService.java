@@ -15,7 +15,7 @@ public class SkillService {
 
     private final SkillDataProvider skillDataProvider;
 
-    @Cacheable(SKILLS_CACHE)
+    @Cacheable(value = SKILLS_CACHE, sync = true)
     public List<Skill> getAllSkills() {
         return skillDataProvider.findAllByOrderByDisplayOrder();
     }
@@ -0,0 +1,41 @@
+package com.portfolio.backend.tracing;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+
+/**
+ * Root-span sampler that follows the per-endpoint decision taken by
+ * {@link ServerTimingFilter} for the current request. Work outside of a
+ * request (startup, file reloads, write-behind) falls back to a trace-id ratio.
+ * Use it wrapped in {@link Sampler#parentBased(Sampler)}, so child spans and
+ * incoming {@code traceparent} headers keep their parent's decision.
+ */
+public class EndpointSampler implements Sampler {
+
+    private final Sampler fallback;
+
+    public EndpointSampler(double fallbackRatio) {
+        this.fallback = Sampler.traceIdRatioBased(fallbackRatio);
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                       Attributes attributes, List<LinkData> parentLinks) {
+        Boolean sampled = RequestTiming.sampled();
+        if (sampled == null) {
+            return fallback.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+        }
+        return sampled ? SamplingResult.recordAndSample() : SamplingResult.drop();
+    }
+
+    @Override
+    public String getDescription() {
+        return "EndpointSampler{fallback=" + fallback.getDescription() + "}";
+    }
+}
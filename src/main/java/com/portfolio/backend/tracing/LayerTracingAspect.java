@@ -0,0 +1,97 @@
+package com.portfolio.backend.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Wraps controller, service, data provider and repository calls in an
+ * observation, which becomes a child span of the request's HTTP span (and a
+ * {@code portfolio.layer} timer), and credits the call to its layer in the
+ * request's {@link RequestTiming}. ModelMapper calls are only timed.
+ *
+ * <p>Ordered first, so a service span also covers its cache and transaction
+ * interceptors; cache lookups are then reported as their own layer by the cache.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LayerTracingAspect {
+
+    static final String OBSERVATION_NAME = "portfolio.layer";
+
+    private static final String APPLICATION_PACKAGE = "com.portfolio.backend.";
+
+    private final ObservationRegistry observationRegistry;
+
+    public LayerTracingAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("within(com.portfolio.backend.controller..*)")
+    public Object controller(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, RequestTiming.CONTROLLER);
+    }
+
+    @Around("within(com.portfolio.backend.service..*)")
+    public Object service(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, RequestTiming.SERVICE);
+    }
+
+    @Around("bean(*DataProvider)")
+    public Object provider(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, RequestTiming.PROVIDER);
+    }
+
+    @Around("bean(*Repository)")
+    public Object repository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, RequestTiming.REPOSITORY);
+    }
+
+    // Called once per element of a list, so timed in aggregate rather than as one span each
+    @Around("bean(modelMapper) && execution(* map(..))")
+    public Object mapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (RequestTiming.Scope timing = RequestTiming.enter(RequestTiming.MAPPING)) {
+            return joinPoint.proceed();
+        }
+    }
+
+    private Object observe(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        String type = typeName(joinPoint);
+        String method = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName(type + "." + method)
+                .lowCardinalityKeyValue("layer", layer)
+                .lowCardinalityKeyValue("class", type)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+        try (RequestTiming.Scope timing = RequestTiming.enter(layer);
+             Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    // Repository calls execute on SimpleJpaRepository; name them after our interface instead
+    private static String typeName(ProceedingJoinPoint joinPoint) {
+        Class<?> type = ClassUtils.getUserClass(joinPoint.getTarget());
+        if (!type.getName().startsWith(APPLICATION_PACKAGE)) {
+            for (Class<?> candidate : joinPoint.getThis().getClass().getInterfaces()) {
+                if (candidate.getName().startsWith(APPLICATION_PACKAGE)) {
+                    return candidate.getSimpleName();
+                }
+            }
+        }
+        return type.getSimpleName();
+    }
+}
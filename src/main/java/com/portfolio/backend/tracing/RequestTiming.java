@@ -0,0 +1,119 @@
+package com.portfolio.backend.tracing;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Per-request time spent in each layer, reported through the
+ * {@code Server-Timing} header. Layers nest (controller, service, cache,
+ * provider, repository, ...), and each layer is credited with its own time
+ * only, so the entries add up to the time the request spent in the application.
+ * Bound to the request thread by {@link ServerTimingFilter}.
+ */
+public final class RequestTiming {
+
+    public static final String CONTROLLER = "controller";
+    public static final String SERVICE = "service";
+    public static final String CACHE = "cache";
+    public static final String PROVIDER = "provider";
+    public static final String REPOSITORY = "repository";
+    public static final String MAPPING = "mapping";
+    public static final String SERIALIZE = "serialize";
+
+    /** Closes the layer entered by {@link #enter(String)}. */
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private static final Scope NOOP = () -> {
+    };
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final boolean sampled;
+    private final Map<String, long[]> layers = new LinkedHashMap<>();
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    private RequestTiming(boolean sampled) {
+        this.sampled = sampled;
+    }
+
+    static RequestTiming begin(boolean sampled) {
+        RequestTiming timing = new RequestTiming(sampled);
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Whether the current request was picked for tracing, or {@code null}
+     * outside of a request.
+     */
+    static Boolean sampled() {
+        RequestTiming timing = CURRENT.get();
+        return timing != null ? timing.sampled : null;
+    }
+
+    /**
+     * Starts timing a layer on the current request. Outside of a request this
+     * is a no-op, so callers need not check.
+     */
+    public static Scope enter(String layer) {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null) {
+            return NOOP;
+        }
+        Frame frame = new Frame(layer, System.nanoTime());
+        timing.frames.push(frame);
+        return () -> timing.exit(frame);
+    }
+
+    private void exit(Frame frame) {
+        long elapsed = System.nanoTime() - frame.startNanos;
+        // Scopes close in order; pop defensively in case an inner one was skipped
+        while (!frames.isEmpty() && frames.pop() != frame) {
+            // discard
+        }
+        long[] totals = layers.computeIfAbsent(frame.layer, key -> new long[2]);
+        totals[0] += elapsed - frame.childNanos;
+        totals[1]++;
+        Frame parent = frames.peek();
+        if (parent != null) {
+            parent.childNanos += elapsed;
+        }
+    }
+
+    /**
+     * {@code Server-Timing} value for the layers recorded so far, e.g.
+     * {@code cache;desc="1 call";dur=0.04, service;desc="1 call";dur=0.31, app;dur=0.52}.
+     */
+    String toHeaderValue() {
+        StringJoiner header = new StringJoiner(", ");
+        layers.forEach((layer, totals) -> header.add(String.format(Locale.ROOT, "%s;desc=\"%d call%s\";dur=%.2f",
+                layer, totals[1], totals[1] == 1 ? "" : "s", totals[0] / 1_000_000.0)));
+        header.add(String.format(Locale.ROOT, "app;dur=%.2f", (System.nanoTime() - startNanos) / 1_000_000.0));
+        return header.toString();
+    }
+
+    private static final class Frame {
+
+        private final String layer;
+        private final long startNanos;
+        private long childNanos;
+
+        private Frame(String layer, long startNanos) {
+            this.layer = layer;
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.portfolio.backend.tracing;
+
+import com.portfolio.backend.config.TracingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Binds a {@link RequestTiming} to each request and writes its
+ * {@code Server-Timing} header just before the response is committed.
+ * Time spent after that point, mostly serializing a response body, is not part
+ * of the header; it shows up in the HTTP server span instead.
+ *
+ * <p>Runs ahead of Spring's observation filter, so the per-endpoint sampling
+ * decision made here is in place when the request's root span starts.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+
+    private final TracingProperties tracingProperties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ServerTimingFilter(TracingProperties tracingProperties) {
+        this.tracingProperties = tracingProperties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin(
+                ThreadLocalRandom.current().nextDouble() < samplingFor(request.getRequestURI()));
+        try {
+            if (!tracingProperties.isServerTiming()) {
+                chain.doFilter(request, response);
+                return;
+            }
+            ServerTimingResponse wrapper = new ServerTimingResponse(response, timing);
+            chain.doFilter(request, wrapper);
+            wrapper.writeHeader();
+        } finally {
+            RequestTiming.end();
+        }
+    }
+
+    private double samplingFor(String path) {
+        for (Map.Entry<String, Double> endpoint : tracingProperties.getEndpoints().entrySet()) {
+            if (pathMatcher.match(endpoint.getKey(), path)) {
+                return endpoint.getValue();
+            }
+        }
+        return tracingProperties.getDefaultSampling();
+    }
+
+    /** Adds the header the first time the body is about to be written or the response committed. */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTiming timing;
+        private boolean written;
+
+        private ServerTimingResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        void writeHeader() {
+            if (!written && !isCommitted()) {
+                setHeader(HEADER, timing.toHeaderValue());
+            }
+            written = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.portfolio.backend.transfer;
+
+import com.portfolio.backend.entity.Blog;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes blogs and their tags with JDBC batch statements. {@code Blog} uses
+ * IDENTITY ids, which stops Hibernate from batching inserts, so bulk paths
+ * (imports, seeding) go through here instead of {@code BlogRepository}.
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "DATABASE", matchIfMissing = true)
+public class BlogBatchWriter {
+
+    private static final String UPSERT_BLOG_SQL = """
+            INSERT INTO blogs (id, title, slug, excerpt, content, author, date, read_time, published, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, COALESCE(?, now()), COALESCE(?, now()))
+            ON CONFLICT (id) DO UPDATE SET
+                title = EXCLUDED.title, slug = EXCLUDED.slug, excerpt = EXCLUDED.excerpt,
+                content = EXCLUDED.content, author = EXCLUDED.author, date = EXCLUDED.date,
+                read_time = EXCLUDED.read_time, published = EXCLUDED.published, updated_at = EXCLUDED.updated_at
+            """;
+    private static final String DELETE_TAGS_SQL = "DELETE FROM blog_tags WHERE blog_id = ?";
+    private static final String INSERT_TAG_SQL = "INSERT INTO blog_tags (blog_id, tag) VALUES (?, ?)";
+    private static final String IDS_BY_SLUG_SQL = "SELECT id, slug FROM blogs WHERE slug IN (%s)";
+    private static final String NEXT_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('blogs', 'id')) FROM generate_series(1, ?)";
+    private static final String SYNC_SEQUENCE_SQL =
+            "SELECT setval(pg_get_serial_sequence('blogs', 'id'), (SELECT COALESCE(MAX(id), 1) FROM blogs))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public BlogBatchWriter(DataSource dataSource, PlatformTransactionManager transactionManager,
+                           EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Upserts the batch in one transaction. Blogs without an id take the id of
+     * the stored post with the same slug, or else a new one from the table's
+     * sequence; tags are replaced rather than appended. A replayed batch -
+     * for example after a crash between its commit and the checkpoint - thus
+     * updates the posts it already wrote instead of inserting them again.
+     */
+    public void upsert(List<Blog> batch) {
+        transactionTemplate.executeWithoutResult(status -> write(batch));
+        evictSecondLevelCache();
+    }
+
+    private void write(List<Blog> batch) {
+        assignMissingIds(batch);
+
+        List<Object[]> blogRows = new ArrayList<>(batch.size());
+        List<Object[]> blogIds = new ArrayList<>(batch.size());
+        List<Object[]> tagRows = new ArrayList<>();
+        for (Blog blog : batch) {
+            blogRows.add(new Object[]{
+                    blog.getId(), blog.getTitle(), blog.getSlug(), blog.getExcerpt(), blog.getContent(),
+                    blog.getAuthor(), blog.getDate() != null ? blog.getDate() : LocalDateTime.now(),
+                    blog.getReadTime(), blog.getPublished() != null ? blog.getPublished() : Boolean.TRUE,
+                    blog.getCreatedAt(), blog.getUpdatedAt()
+            });
+            blogIds.add(new Object[]{blog.getId()});
+            if (blog.getTags() != null) {
+                for (String tag : blog.getTags()) {
+                    tagRows.add(new Object[]{blog.getId(), tag});
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_BLOG_SQL, blogRows);
+        jdbcTemplate.batchUpdate(DELETE_TAGS_SQL, blogIds);
+        if (!tagRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TAG_SQL, tagRows);
+        }
+    }
+
+    /**
+     * Moves the id sequence past the highest id written with an explicit value.
+     */
+    public void syncSequence() {
+        jdbcTemplate.queryForObject(SYNC_SEQUENCE_SQL, Long.class);
+    }
+
+    // Plain JDBC writes bypass Hibernate, so its cached blogs and query results would go stale
+    private void evictSecondLevelCache() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Blog.class);
+        cache.evictCollectionData(Blog.class.getName() + ".tags");
+        cache.evictQueryRegions();
+    }
+
+    private void assignMissingIds(List<Blog> batch) {
+        List<String> slugs = batch.stream()
+                .filter(blog -> blog.getId() == null)
+                .map(Blog::getSlug)
+                .toList();
+        if (slugs.isEmpty()) {
+            return;
+        }
+        Map<String, Long> storedIds = new HashMap<>();
+        jdbcTemplate.query(IDS_BY_SLUG_SQL.formatted(String.join(", ", Collections.nCopies(slugs.size(), "?"))),
+                rs -> {
+                    storedIds.put(rs.getString("slug"), rs.getLong("id"));
+                }, slugs.toArray());
+        for (Blog blog : batch) {
+            if (blog.getId() == null) {
+                blog.setId(storedIds.get(blog.getSlug()));
+            }
+        }
+
+        long missing = batch.stream().filter(blog -> blog.getId() == null).count();
+        if (missing == 0) {
+            return;
+        }
+        Iterator<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, missing).iterator();
+        for (Blog blog : batch) {
+            if (blog.getId() == null) {
+                blog.setId(ids.next());
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.portfolio.backend.transfer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.portfolio.backend.config.TransferProperties;
+import com.portfolio.backend.entity.Blog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams blogs between the FILE-mode JSON layout and PostgreSQL. Both
+ * directions hold at most one batch in memory, so archive size only affects
+ * run time, and both record a {@link TransferCheckpoint} after each batch.
+ */
+@Service
+@ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "DATABASE", matchIfMissing = true)
+@Slf4j
+public class BlogTransferService {
+
+    private static final String EXPORT_SQL = """
+            SELECT b.id, b.title, b.slug, b.excerpt, b.content, b.author, b.date, b.read_time, b.published,
+                   b.created_at, b.updated_at, t.tag
+            FROM blogs b LEFT JOIN blog_tags t ON t.blog_id = b.id
+            WHERE b.id > ?
+            ORDER BY b.id
+            """;
+
+    private static final byte[] ARRAY_START = "[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FIRST_SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = ",\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_END = "\n]\n".getBytes(StandardCharsets.UTF_8);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTransaction;
+    private final BlogBatchWriter blogBatchWriter;
+    private final TransferProperties transferProperties;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter blogWriter;
+
+    public BlogTransferService(DataSource dataSource, PlatformTransactionManager transactionManager,
+                               BlogBatchWriter blogBatchWriter, TransferProperties transferProperties) {
+        this.blogBatchWriter = blogBatchWriter;
+        this.transferProperties = transferProperties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // Lets the PostgreSQL driver stream the export through a server-side cursor
+        this.jdbcTemplate.setFetchSize(transferProperties.getBatchSize());
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.blogWriter = objectMapper.writerFor(Blog.class).withDefaultPrettyPrinter();
+    }
+
+    public TransferProgress importBlogs(Resource source, TransferCheckpoint checkpoint) throws IOException {
+        TransferProgress progress = new TransferProgress("Blog import", checkpoint.getProcessed());
+        int batchSize = transferProperties.getBatchSize();
+        long skip = checkpoint.getProcessed();
+        long index = 0;
+        List<Blog> batch = new ArrayList<>(batchSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(source.getInputStream())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of blogs in " + source.getDescription());
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                if (index++ < skip) {
+                    parser.skipChildren();
+                    continue;
+                }
+                batch.add(objectMapper.readValue(parser, Blog.class));
+                if (batch.size() == batchSize) {
+                    importBatch(batch, checkpoint, progress);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, checkpoint, progress);
+        }
+
+        blogBatchWriter.syncSequence();
+        checkpoint.clear();
+        progress.logCompletion();
+        return progress;
+    }
+
+    private void importBatch(List<Blog> batch, TransferCheckpoint checkpoint, TransferProgress progress) {
+        blogBatchWriter.upsert(batch);
+        checkpoint.advance(batch.size(), batch.get(batch.size() - 1).getId(), 0);
+        progress.record(batch.size());
+        batch.clear();
+    }
+
+    public TransferProgress exportBlogs(Path target, TransferCheckpoint checkpoint) throws IOException {
+        Path partFile = target.resolveSibling(target.getFileName() + ".part");
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+
+        boolean resume = checkpoint.isResumed() && Files.exists(partFile);
+        if (!resume) {
+            checkpoint.restart();
+        } else {
+            // Drop anything written after the last recorded batch
+            try (FileChannel channel = FileChannel.open(partFile, StandardOpenOption.WRITE)) {
+                channel.truncate(checkpoint.getOffset());
+            }
+        }
+
+        TransferProgress progress = new TransferProgress("Blog export", checkpoint.getProcessed());
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partFile,
+                StandardOpenOption.CREATE, resume ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE))) {
+            ExportWriter writer = new ExportWriter(out, checkpoint, progress, resume);
+            readTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.query(EXPORT_SQL, (RowCallbackHandler) writer::processRow, resume ? checkpoint.getLastId() : 0L));
+            writer.finish();
+        }
+
+        Files.move(partFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpoint.clear();
+        progress.logCompletion();
+        return progress;
+    }
+
+    /**
+     * Folds the blog/tag join rows back into blogs and appends each one to the
+     * export as soon as its last tag row has been read.
+     */
+    private class ExportWriter {
+
+        private final OutputStream out;
+        private final TransferCheckpoint checkpoint;
+        private final TransferProgress progress;
+        private long offset;
+        private boolean first;
+        private Blog current;
+        private int pending;
+
+        ExportWriter(OutputStream out, TransferCheckpoint checkpoint, TransferProgress progress,
+                     boolean resume) throws IOException {
+            this.out = out;
+            this.checkpoint = checkpoint;
+            this.progress = progress;
+            if (resume) {
+                this.offset = checkpoint.getOffset();
+            } else {
+                write(ARRAY_START);
+                this.first = true;
+            }
+        }
+
+        void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (current == null || !current.getId().equals(id)) {
+                emitCurrent();
+                current = new Blog();
+                current.setId(id);
+                current.setTitle(rs.getString("title"));
+                current.setSlug(rs.getString("slug"));
+                current.setExcerpt(rs.getString("excerpt"));
+                current.setContent(rs.getString("content"));
+                current.setAuthor(rs.getString("author"));
+                current.setDate(rs.getObject("date", LocalDateTime.class));
+                current.setReadTime(rs.getString("read_time"));
+                current.setPublished(rs.getBoolean("published"));
+                current.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+                current.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+            }
+            String tag = rs.getString("tag");
+            if (tag != null) {
+                current.getTags().add(tag);
+            }
+        }
+
+        void finish() throws IOException {
+            emitCurrent();
+            flushBatch();
+            write(ARRAY_END);
+            out.flush();
+        }
+
+        private void emitCurrent() {
+            if (current == null) {
+                return;
+            }
+            try {
+                write(first ? FIRST_SEPARATOR : SEPARATOR);
+                write(blogWriter.writeValueAsBytes(current));
+                first = false;
+                pending++;
+                if (pending == transferProperties.getBatchSize()) {
+                    flushBatch();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write blog " + current.getId() + " to export", e);
+            }
+        }
+
+        private void flushBatch() throws IOException {
+            if (pending == 0) {
+                return;
+            }
+            out.flush();
+            checkpoint.advance(pending, current.getId(), offset);
+            progress.record(pending);
+            pending = 0;
+        }
+
+        private void write(byte[] bytes) throws IOException {
+            out.write(bytes);
+            offset += bytes.length;
+        }
+    }
+}
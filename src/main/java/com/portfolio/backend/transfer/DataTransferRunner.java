@@ -0,0 +1,65 @@
+package com.portfolio.backend.transfer;
+
+import com.portfolio.backend.config.TransferProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Runs an import or export when {@code portfolio.transfer.direction} is set.
+ * Ordered ahead of {@code DataInitializer} so imported content lands in the
+ * empty tables before any sample data would be seeded.
+ */
+@Component
+@ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "DATABASE", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class DataTransferRunner implements CommandLineRunner {
+
+    private final TransferProperties transferProperties;
+    private final BlogTransferService blogTransferService;
+    private final PortfolioTransferService portfolioTransferService;
+    private final ResourceLoader resourceLoader;
+
+    @Override
+    public void run(String... args) throws Exception {
+        switch (transferProperties.getDirection()) {
+            case IMPORT -> runImport();
+            case EXPORT -> runExport();
+            case NONE -> log.debug("No data transfer requested");
+        }
+    }
+
+    private void runImport() throws Exception {
+        String source = transferProperties.getBlogSource();
+        log.info("Importing blogs from: {}", source);
+        blogTransferService.importBlogs(resourceLoader.getResource(source), checkpoint("import:" + source));
+
+        if (transferProperties.isIncludePortfolio()) {
+            portfolioTransferService.importPortfolio(resourceLoader.getResource(transferProperties.getPortfolioSource()));
+        }
+    }
+
+    private void runExport() throws Exception {
+        Path target = Paths.get(transferProperties.getBlogTarget());
+        log.info("Exporting blogs to: {}", target.toAbsolutePath());
+        blogTransferService.exportBlogs(target, checkpoint("export:" + target.toAbsolutePath()));
+
+        if (transferProperties.isIncludePortfolio()) {
+            portfolioTransferService.exportPortfolio(Paths.get(transferProperties.getPortfolioTarget()));
+        }
+    }
+
+    private TransferCheckpoint checkpoint(String job) {
+        return TransferCheckpoint.load(Paths.get(transferProperties.getCheckpointFile()), job);
+    }
+}
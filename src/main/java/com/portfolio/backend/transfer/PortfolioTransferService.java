@@ -0,0 +1,105 @@
+package com.portfolio.backend.transfer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.portfolio.backend.model.PortfolioData;
+import com.portfolio.backend.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Moves the small, bounded sections of {@code portfolio-data.json} (personal
+ * info, projects, experiences, skills, education, achievements). Unlike blogs
+ * these are read and written whole; a section is only imported into an empty
+ * table so re-running an import never duplicates rows.
+ */
+@Service
+@ConditionalOnProperty(name = "portfolio.datasource.type", havingValue = "DATABASE", matchIfMissing = true)
+@Slf4j
+public class PortfolioTransferService {
+
+    private final PersonalInfoRepository personalInfoRepository;
+    private final ProjectRepository projectRepository;
+    private final ExperienceRepository experienceRepository;
+    private final SkillRepository skillRepository;
+    private final EducationRepository educationRepository;
+    private final AchievementRepository achievementRepository;
+    private final ObjectMapper objectMapper;
+
+    public PortfolioTransferService(PersonalInfoRepository personalInfoRepository,
+                                    ProjectRepository projectRepository,
+                                    ExperienceRepository experienceRepository,
+                                    SkillRepository skillRepository,
+                                    EducationRepository educationRepository,
+                                    AchievementRepository achievementRepository) {
+        this.personalInfoRepository = personalInfoRepository;
+        this.projectRepository = projectRepository;
+        this.experienceRepository = experienceRepository;
+        this.skillRepository = skillRepository;
+        this.educationRepository = educationRepository;
+        this.achievementRepository = achievementRepository;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    @Transactional
+    public void importPortfolio(Resource source) throws IOException {
+        PortfolioData data = objectMapper.readValue(source.getInputStream(), PortfolioData.class);
+
+        if (data.getPersonalInfo() != null && personalInfoRepository.count() == 0) {
+            data.getPersonalInfo().setId(null);
+            personalInfoRepository.save(data.getPersonalInfo());
+        }
+        importSection("projects", data.getProjects(), projectRepository, p -> p.setId(null));
+        importSection("experiences", data.getExperiences(), experienceRepository, e -> e.setId(null));
+        importSection("skills", data.getSkills(), skillRepository, s -> s.setId(null));
+        importSection("education", data.getEducation(), educationRepository, e -> e.setId(null));
+        importSection("achievements", data.getAchievements(), achievementRepository, a -> a.setId(null));
+        log.info("Portfolio import from {} completed", source.getDescription());
+    }
+
+    private <T> void importSection(String name, List<T> rows, JpaRepository<T, Long> repository, Consumer<T> clearId) {
+        if (rows == null || rows.isEmpty()) {
+            return;
+        }
+        if (repository.count() > 0) {
+            log.info("Table for {} is not empty, skipping import", name);
+            return;
+        }
+        rows.forEach(clearId);
+        repository.saveAll(rows);
+        log.info("Imported {} {}", rows.size(), name);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportPortfolio(Path target) throws IOException {
+        PortfolioData data = new PortfolioData();
+        data.setPersonalInfo(personalInfoRepository.findAll().stream().findFirst().orElse(null));
+        data.setProjects(projectRepository.findAllByOrderByDisplayOrderAsc());
+        data.setExperiences(experienceRepository.findAllByOrderByDisplayOrder());
+        data.setSkills(skillRepository.findAllByOrderByDisplayOrder());
+        data.setEducation(educationRepository.findAllByOrderByDisplayOrder());
+        data.setAchievements(achievementRepository.findAllByOrderByDisplayOrder());
+
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".part");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), data);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Portfolio export written to: {}", target.toAbsolutePath());
+    }
+}
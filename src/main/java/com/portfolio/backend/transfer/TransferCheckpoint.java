@@ -0,0 +1,102 @@
+package com.portfolio.backend.transfer;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Progress marker persisted after every committed batch so an interrupted
+ * transfer can pick up where it stopped. A checkpoint only applies to the job
+ * it was written for; a different direction or source starts from scratch.
+ */
+@Slf4j
+@Getter
+public class TransferCheckpoint {
+
+    private final Path file;
+    private final String job;
+    private long processed;
+    private long lastId;
+    private long offset;
+
+    private TransferCheckpoint(Path file, String job) {
+        this.file = file;
+        this.job = job;
+    }
+
+    public static TransferCheckpoint load(Path file, String job) {
+        TransferCheckpoint checkpoint = new TransferCheckpoint(file, job);
+        if (!Files.exists(file)) {
+            return checkpoint;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable transfer checkpoint: {}", file, e);
+            return checkpoint;
+        }
+        if (!job.equals(properties.getProperty("job"))) {
+            log.info("Checkpoint {} belongs to another job, starting from scratch", file);
+            return checkpoint;
+        }
+        checkpoint.processed = Long.parseLong(properties.getProperty("processed", "0"));
+        checkpoint.lastId = Long.parseLong(properties.getProperty("lastId", "0"));
+        checkpoint.offset = Long.parseLong(properties.getProperty("offset", "0"));
+        log.info("Resuming {} after {} records (last id {})", job, checkpoint.processed, checkpoint.lastId);
+        return checkpoint;
+    }
+
+    public boolean isResumed() {
+        return processed > 0;
+    }
+
+    public void restart() {
+        processed = 0;
+        lastId = 0;
+        offset = 0;
+    }
+
+    public void advance(long records, long lastId, long offset) {
+        this.processed += records;
+        this.lastId = lastId;
+        this.offset = offset;
+        save();
+    }
+
+    public void clear() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to remove transfer checkpoint " + file, e);
+        }
+    }
+
+    private void save() {
+        Properties properties = new Properties();
+        properties.setProperty("job", job);
+        properties.setProperty("processed", Long.toString(processed));
+        properties.setProperty("lastId", Long.toString(lastId));
+        properties.setProperty("offset", Long.toString(offset));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, null);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write transfer checkpoint " + file, e);
+        }
+    }
+}
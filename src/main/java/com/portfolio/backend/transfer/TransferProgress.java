@@ -0,0 +1,43 @@
+package com.portfolio.backend.transfer;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+@Slf4j
+@Getter
+public class TransferProgress {
+
+    private final String name;
+    private final long resumedFrom;
+    private final long startNanos = System.nanoTime();
+    private long processed;
+    private long batches;
+
+    public TransferProgress(String name, long resumedFrom) {
+        this.name = name;
+        this.resumedFrom = resumedFrom;
+        this.processed = resumedFrom;
+    }
+
+    public void record(int records) {
+        processed += records;
+        batches++;
+        log.info("{}: {} records transferred ({} records/s)", name, processed, recordsPerSecond());
+    }
+
+    public Duration getElapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    public long recordsPerSecond() {
+        long millis = Math.max(1, getElapsed().toMillis());
+        return (processed - resumedFrom) * 1000 / millis;
+    }
+
+    public void logCompletion() {
+        log.info("{} completed: {} records in {} batches, {} ms ({} records/s)",
+                name, processed, batches, getElapsed().toMillis(), recordsPerSecond());
+    }
+}
@@ -0,0 +1,82 @@
+package com.portfolio.backend.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures payload bytes on the wire and request latency of list endpoints
+ * against a running instance, across protocol and encoding combinations:
+ * HTTP/1.1 vs h2c, identity vs gzip. Start the application first, e.g.
+ * {@code mvn spring-boot:run}, then:
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.portfolio.backend.benchmark.HttpPayloadBenchmark \
+ *     -Dexec.args="http://localhost:8080 500"
+ * </pre>
+ *
+ * Arguments: base URL (default http://localhost:8080), requests per combination (default 500).
+ */
+public class HttpPayloadBenchmark {
+
+    private static final List<String> PATHS = List.of("/api/blogs", "/api/projects");
+    private static final int WARMUP_REQUESTS = 50;
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+        System.out.printf("%-16s %-9s %-9s %12s %10s %10s %10s%n",
+                "endpoint", "protocol", "encoding", "body bytes", "p50 ms", "p95 ms", "p99 ms");
+        for (String path : PATHS) {
+            for (HttpClient.Version version : List.of(HttpClient.Version.HTTP_1_1, HttpClient.Version.HTTP_2)) {
+                for (String encoding : List.of("identity", "gzip")) {
+                    run(baseUrl, path, version, encoding, requests);
+                }
+            }
+        }
+    }
+
+    private static void run(String baseUrl, String path, HttpClient.Version version, String encoding, int requests)
+            throws Exception {
+        // One client per combination so HTTP/2 negotiates once (h2c Upgrade) and then reuses the connection
+        HttpClient client = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", encoding)
+                .GET()
+                .build();
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        long[] latencies = new long[requests];
+        long bodyBytes = 0;
+        HttpClient.Version negotiated = null;
+        for (int i = 0; i < requests; i++) {
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            latencies[i] = System.nanoTime() - start;
+            bodyBytes = response.body().length;
+            negotiated = response.version();
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-16s %-9s %-9s %,12d %10.2f %10.2f %10.2f%n",
+                path, negotiated == HttpClient.Version.HTTP_2 ? "h2c" : "http/1.1", encoding, bodyBytes,
+                percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99));
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,408 @@
+package com.portfolio.backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load test against a running instance, with a traffic mix that
+ * mirrors production (see LOAD-TESTING.md):
+ * <ul>
+ *   <li>{@code homepage} - all section GETs fired concurrently, timed until the last one returns</li>
+ *   <li>{@code blog-slug} - {@code /api/blogs/slug/{slug}} with Zipfian popularity over the existing slugs</li>
+ *   <li>{@code blog-search} - {@code /api/blogs/search} with words taken from blog titles</li>
+ *   <li>{@code blog-write} - create, update and delete of a throwaway blog, each request timed on its own</li>
+ * </ul>
+ * Each virtual user picks a scenario by weight, runs it and immediately picks
+ * the next one. The report gives throughput, error rate and p50/p95/p99 per
+ * scenario. With {@code --baseline} the run fails (exit code 1) when a
+ * percentile or the throughput regresses past the tolerance.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.portfolio.backend.benchmark.LoadTest \
+ *     -Dexec.args="http://localhost:8080 60 16 --baseline=loadtest-baseline.properties"
+ * </pre>
+ *
+ * Arguments: base URL (default http://localhost:8080), measured seconds
+ * (default 60), virtual users (default 16), then options:
+ * {@code --warmup=<seconds>} (default 10), {@code --zipf=<exponent>} (default 1.0),
+ * {@code --baseline=<file>} to compare, {@code --record-baseline=<file>} to store
+ * this run, {@code --tolerance=<fraction>} (default 0.20).
+ */
+public class LoadTest {
+
+    private static final List<String> HOMEPAGE_PATHS = List.of(
+            "/api/personal-info", "/api/projects", "/api/experiences", "/api/skills",
+            "/api/education", "/api/achievements", "/api/blogs");
+
+    // Scenario weights, in percent of iterations
+    private static final Map<String, Integer> MIX = new LinkedHashMap<>();
+
+    static {
+        MIX.put("homepage", 30);
+        MIX.put("blog-slug", 55);
+        MIX.put("blog-search", 12);
+        MIX.put("blog-write", 3);
+    }
+
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> slugs = new ArrayList<>();
+    private final List<String> searchTerms = new ArrayList<>();
+    private final AtomicLong writeSequence = new AtomicLong();
+    private double[] zipfCdf;
+
+    LoadTest(String baseUrl, int users) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, users)))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> positional = new ArrayList<>();
+        Map<String, String> options = new TreeMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator < 0 ? arg.length() : separator),
+                        separator < 0 ? "true" : arg.substring(separator + 1));
+            } else {
+                positional.add(arg);
+            }
+        }
+        String baseUrl = positional.size() > 0 ? positional.get(0) : "http://localhost:8080";
+        int seconds = positional.size() > 1 ? Integer.parseInt(positional.get(1)) : 60;
+        int users = positional.size() > 2 ? Integer.parseInt(positional.get(2)) : 16;
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        double zipfExponent = Double.parseDouble(options.getOrDefault("zipf", "1.0"));
+        double tolerance = Double.parseDouble(options.getOrDefault("tolerance", "0.20"));
+
+        LoadTest test = new LoadTest(baseUrl, users);
+        test.discover(zipfExponent);
+        System.out.printf("%d slugs, %d search terms, %d users, %ds warm-up, %ds measured, zipf s=%.2f%n",
+                test.slugs.size(), test.searchTerms.size(), users, warmup, seconds, zipfExponent);
+
+        test.run(users, warmup, null);
+        Map<String, Recorder> results = new TreeMap<>();
+        long elapsedNanos = test.run(users, seconds, results);
+        Map<String, Double> metrics = report(results, elapsedNanos);
+
+        if (options.containsKey("record-baseline")) {
+            storeBaseline(Path.of(options.get("record-baseline")), metrics);
+        }
+        boolean passed = checkErrors(metrics);
+        if (options.containsKey("baseline")) {
+            passed &= compare(Path.of(options.get("baseline")), metrics, tolerance);
+        }
+        System.out.println(passed ? "PASS" : "FAIL");
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Reads the current blogs once to build the slug popularity distribution and
+     * the search vocabulary. Rank 1 is the first blog the API returns.
+     */
+    private void discover(double zipfExponent) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/blogs"))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/blogs returned " + response.statusCode());
+        }
+        for (JsonNode blog : objectMapper.readTree(response.body())) {
+            slugs.add(blog.path("slug").asText());
+            for (String word : blog.path("title").asText().toLowerCase(Locale.ROOT).split("\\W+")) {
+                if (word.length() > 3 && !searchTerms.contains(word)) {
+                    searchTerms.add(word);
+                }
+            }
+        }
+        if (slugs.isEmpty()) {
+            throw new IllegalStateException("No blogs to read - seed the instance first");
+        }
+        if (searchTerms.isEmpty()) {
+            searchTerms.add("java");
+        }
+        zipfCdf = new double[slugs.size()];
+        double sum = 0;
+        for (int rank = 1; rank <= slugs.size(); rank++) {
+            sum += 1.0 / Math.pow(rank, zipfExponent);
+            zipfCdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < zipfCdf.length; i++) {
+            zipfCdf[i] /= sum;
+        }
+    }
+
+    /**
+     * Runs the mix with {@code users} virtual users for {@code seconds}. When
+     * {@code results} is null the run is a warm-up and nothing is kept.
+     */
+    private long run(int users, int seconds, Map<String, Recorder> results) throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        List<Future<Map<String, Recorder>>> futures = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            futures.add(executor.submit(() -> virtualUser(deadline)));
+        }
+        for (Future<Map<String, Recorder>> future : futures) {
+            Map<String, Recorder> userResults = future.get();
+            if (results != null) {
+                userResults.forEach((name, recorder) ->
+                        results.computeIfAbsent(name, key -> new Recorder()).merge(recorder));
+            }
+        }
+        executor.shutdown();
+        return System.nanoTime() - start;
+    }
+
+    private Map<String, Recorder> virtualUser(long deadline) {
+        Map<String, Recorder> recorders = new TreeMap<>();
+        while (System.nanoTime() < deadline) {
+            int pick = ThreadLocalRandom.current().nextInt(100);
+            for (Map.Entry<String, Integer> scenario : MIX.entrySet()) {
+                pick -= scenario.getValue();
+                if (pick < 0) {
+                    runScenario(scenario.getKey(), recorders);
+                    break;
+                }
+            }
+        }
+        return recorders;
+    }
+
+    private void runScenario(String scenario, Map<String, Recorder> recorders) {
+        Recorder recorder = recorders.computeIfAbsent(scenario, key -> new Recorder());
+        switch (scenario) {
+            case "homepage" -> homepage(recorder);
+            case "blog-slug" -> timed(recorder, get("/api/blogs/slug/" + slugs.get(zipfRank())));
+            case "blog-search" -> timed(recorder, get("/api/blogs/search?query=" + URLEncoder.encode(
+                    searchTerms.get(ThreadLocalRandom.current().nextInt(searchTerms.size())), StandardCharsets.UTF_8)));
+            default -> write(recorder);
+        }
+    }
+
+    private void homepage(Recorder recorder) {
+        long start = System.nanoTime();
+        boolean ok = true;
+        try {
+            List<CompletableFuture<HttpResponse<Void>>> requests = new ArrayList<>();
+            for (String path : HOMEPAGE_PATHS) {
+                requests.add(client.sendAsync(get(path), HttpResponse.BodyHandlers.discarding()));
+            }
+            for (CompletableFuture<HttpResponse<Void>> request : requests) {
+                ok &= request.join().statusCode() < 300;
+            }
+        } catch (RuntimeException e) {
+            ok = false;
+        }
+        recorder.record(System.nanoTime() - start, ok);
+    }
+
+    private void write(Recorder recorder) {
+        String slug = "load-test-" + ProcessHandle.current().pid() + "-" + writeSequence.incrementAndGet();
+        String body = """
+                {"title":"Load test %s","slug":"%s","excerpt":"Load test","content":"Load test body",\
+                "author":"Load test","date":"2024-01-01T00:00:00","tags":["load-test"],"readTime":"1 min","published":false}"""
+                .formatted(slug, slug);
+        HttpResponse<byte[]> created = timed(recorder, json("POST", "/api/blogs", body));
+        if (created == null || created.statusCode() != 201) {
+            return;
+        }
+        try {
+            long id = objectMapper.readTree(created.body()).path("id").asLong();
+            timed(recorder, json("PUT", "/api/blogs/" + id, body.replace("Load test body", "Load test body, updated")));
+            timed(recorder, HttpRequest.newBuilder(URI.create(baseUrl + "/api/blogs/" + id)).DELETE().build());
+        } catch (IOException e) {
+            recorder.record(0, false);
+        }
+    }
+
+    private HttpResponse<byte[]> timed(Recorder recorder, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            recorder.record(System.nanoTime() - start, response.statusCode() < 300);
+            return response;
+        } catch (IOException e) {
+            recorder.record(System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private int zipfRank() {
+        int index = Arrays.binarySearch(zipfCdf, ThreadLocalRandom.current().nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, zipfCdf.length - 1);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest json(String method, String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static Map<String, Double> report(Map<String, Recorder> results, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        Map<String, Double> metrics = new TreeMap<>();
+        System.out.printf("%-12s %9s %8s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Map.Entry<String, Recorder> entry : results.entrySet()) {
+            String name = entry.getKey();
+            Recorder recorder = entry.getValue();
+            long[] sorted = recorder.sorted();
+            double throughput = sorted.length / seconds;
+            double errorRate = sorted.length == 0 ? 0 : (double) recorder.errors / sorted.length;
+            metrics.put(name + ".throughput", throughput);
+            metrics.put(name + ".errorRate", errorRate);
+            metrics.put(name + ".p50", percentile(sorted, 50));
+            metrics.put(name + ".p95", percentile(sorted, 95));
+            metrics.put(name + ".p99", percentile(sorted, 99));
+            System.out.printf("%-12s %,9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, sorted.length, recorder.errors, throughput,
+                    metrics.get(name + ".p50"), metrics.get(name + ".p95"), metrics.get(name + ".p99"),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+        return metrics;
+    }
+
+    private static boolean checkErrors(Map<String, Double> metrics) {
+        boolean passed = true;
+        for (Map.Entry<String, Double> metric : metrics.entrySet()) {
+            if (metric.getKey().endsWith(".errorRate") && metric.getValue() > MAX_ERROR_RATE) {
+                System.out.printf("REGRESSION %s %.2f%% > %.2f%%%n",
+                        metric.getKey(), metric.getValue() * 100, MAX_ERROR_RATE * 100);
+                passed = false;
+            }
+        }
+        return passed;
+    }
+
+    /**
+     * Latencies may grow and throughput may shrink by {@code tolerance} relative
+     * to the baseline. p50 is reported but not enforced, since it is the least
+     * stable across runs on a shared machine.
+     */
+    private static boolean compare(Path baselineFile, Map<String, Double> metrics, double tolerance) throws IOException {
+        Properties baseline = new Properties();
+        try (Reader reader = Files.newBufferedReader(baselineFile)) {
+            baseline.load(reader);
+        }
+        boolean passed = true;
+        for (String key : baseline.stringPropertyNames()) {
+            Double current = metrics.get(key);
+            double expected = Double.parseDouble(baseline.getProperty(key));
+            if (current == null) {
+                continue;
+            }
+            boolean regressed;
+            if (key.endsWith(".p95") || key.endsWith(".p99")) {
+                regressed = current > expected * (1 + tolerance);
+            } else if (key.endsWith(".throughput")) {
+                regressed = current < expected * (1 - tolerance);
+            } else {
+                continue;
+            }
+            if (regressed) {
+                System.out.printf("REGRESSION %s %.2f vs baseline %.2f (tolerance %.0f%%)%n",
+                        key, current, expected, tolerance * 100);
+                passed = false;
+            }
+        }
+        return passed;
+    }
+
+    private static void storeBaseline(Path baselineFile, Map<String, Double> metrics) throws IOException {
+        Properties baseline = new Properties();
+        metrics.forEach((key, value) -> baseline.setProperty(key, String.format(Locale.ROOT, "%.3f", value)));
+        try (Writer writer = Files.newBufferedWriter(baselineFile)) {
+            baseline.store(writer, "LoadTest baseline - latencies in ms, throughput in req/s");
+        }
+        System.out.println("Baseline written to " + baselineFile);
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    /** Latencies of one scenario, owned by a single virtual user until merged. */
+    static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void merge(Recorder other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], true);
+            }
+            errors += other.errors;
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
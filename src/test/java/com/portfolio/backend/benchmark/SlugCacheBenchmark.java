@@ -0,0 +1,234 @@
+package com.portfolio.backend.benchmark;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.backend.config.AdmissionFilterCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hit rate of the slug cache under skewed reads while a crawler scans every
+ * post once, comparing the byte-weighted Caffeine cache (W-TinyLFU, as
+ * configured in CacheConfig), with and without the admission filter of the
+ * slug cache, against a plain LRU holding the same number of bytes.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.portfolio.backend.benchmark.SlugCacheBenchmark -Dexec.args="5000 16 1.0"
+ * </pre>
+ *
+ * Arguments: number of posts (default 5000), cache size in MB (default 16),
+ * Zipf exponent of reader traffic (default 1.0). Post sizes vary from 1 to 40 KB.
+ */
+public class SlugCacheBenchmark {
+
+    private static final int WARMUP_READS = 200_000;
+    private static final int MEASURED_READS = 200_000;
+
+    // Simulated time between requests, for the admission filter's miss window
+    private static final long NANOS_PER_READ = 10_000_000;
+    private static final AtomicLong CLOCK = new AtomicLong();
+
+    public static void main(String[] args) {
+        int posts = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        long maxBytes = (args.length > 1 ? Long.parseLong(args[1]) : 16) * 1024 * 1024;
+        double zipf = args.length > 2 ? Double.parseDouble(args[2]) : 1.0;
+
+        Random random = new Random(42);
+        int[] sizes = new int[posts];
+        long totalBytes = 0;
+        for (int i = 0; i < posts; i++) {
+            sizes[i] = 1024 + random.nextInt(39 * 1024);
+            totalBytes += sizes[i];
+        }
+        System.out.printf("%d posts, %d MB in total, cache %d MB, zipf %.2f%n",
+                posts, totalBytes / (1024 * 1024), maxBytes / (1024 * 1024), zipf);
+
+        Cache<String, byte[]> tinyLfu = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String slug, byte[] body) -> body.length)
+                .executor(Runnable::run)
+                .build();
+        report("W-TinyLFU (weighted)", run(new CaffeineSlugCache(tinyLfu), sizes, zipf));
+        Cache<Object, Object> filtered = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Object slug, Object body) -> ((byte[]) body).length)
+                .executor(Runnable::run)
+                .build();
+        report("W-TinyLFU + admission", run(new AdmittedSlugCache(new AdmissionFilterCache(
+                new CaffeineCache("slugs", filtered), 2, CLOCK::get, new SimpleMeterRegistry()), filtered), sizes, zipf));
+        report("LRU (weighted)", run(new LruSlugCache(maxBytes), sizes, zipf));
+    }
+
+    private interface SlugCache {
+        boolean read(String slug, int size);
+
+        // Values written into the cache so far
+        long stores();
+    }
+
+    private record Result(double before, double duringScan, double after, long storesDuringScan) {
+    }
+
+    /**
+     * Zipf reads to warm up and measure, then the same reads with a crawler
+     * request for the next post in sequence after every reader request, then
+     * reads alone again. Only reader requests count towards the hit rate.
+     */
+    private static Result run(SlugCache cache, int[] sizes, double zipf) {
+        Zipf popularity = new Zipf(sizes.length, zipf, new Random(7));
+        for (int i = 0; i < WARMUP_READS; i++) {
+            int post = popularity.next();
+            cache.read("post-" + post, sizes[post]);
+        }
+        double before = hitRate(cache, sizes, popularity, MEASURED_READS, false);
+        long storesBeforeScan = cache.stores();
+        double duringScan = hitRate(cache, sizes, popularity, sizes.length, true);
+        long storesDuringScan = cache.stores() - storesBeforeScan;
+        double after = hitRate(cache, sizes, popularity, MEASURED_READS, false);
+        return new Result(before, duringScan, after, storesDuringScan);
+    }
+
+    private static double hitRate(SlugCache cache, int[] sizes, Zipf popularity, int reads, boolean scan) {
+        int hits = 0;
+        for (int i = 0; i < reads; i++) {
+            int post = popularity.next();
+            if (cache.read("post-" + post, sizes[post])) {
+                hits++;
+            }
+            if (scan) {
+                // Crawler walks the archive from the least popular end
+                int crawled = sizes.length - 1 - i;
+                cache.read("post-" + crawled, sizes[crawled]);
+            }
+        }
+        return (double) hits / reads;
+    }
+
+    private static void report(String name, Result result) {
+        System.out.printf("%-22s hit rate before %5.1f%%  during scan %5.1f%%  after %5.1f%%  stores during scan %d%n",
+                name, result.before * 100, result.duringScan * 100, result.after * 100, result.storesDuringScan);
+    }
+
+    private static final class CaffeineSlugCache implements SlugCache {
+
+        private final Cache<String, byte[]> cache;
+        private long stores;
+
+        CaffeineSlugCache(Cache<String, byte[]> cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public boolean read(String slug, int size) {
+            if (cache.getIfPresent(slug) != null) {
+                return true;
+            }
+            cache.put(slug, new byte[size]);
+            stores++;
+            return false;
+        }
+
+        @Override
+        public long stores() {
+            return stores;
+        }
+    }
+
+    private static final class AdmittedSlugCache implements SlugCache {
+
+        private final org.springframework.cache.Cache cache;
+        private final Cache<Object, Object> nativeCache;
+        private long stores;
+
+        AdmittedSlugCache(org.springframework.cache.Cache cache, Cache<Object, Object> nativeCache) {
+            this.cache = cache;
+            this.nativeCache = nativeCache;
+        }
+
+        @Override
+        public boolean read(String slug, int size) {
+            CLOCK.addAndGet(NANOS_PER_READ);
+            boolean[] loaded = new boolean[1];
+            cache.get(slug, () -> {
+                loaded[0] = true;
+                return new byte[size];
+            });
+            if (loaded[0] && nativeCache.asMap().containsKey(slug)) {
+                stores++;
+            }
+            return !loaded[0];
+        }
+
+        @Override
+        public long stores() {
+            return stores;
+        }
+    }
+
+    private static final class LruSlugCache implements SlugCache {
+
+        private final long maxBytes;
+        private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes;
+        private long stores;
+
+        LruSlugCache(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public boolean read(String slug, int size) {
+            if (entries.get(slug) != null) {
+                return true;
+            }
+            entries.put(slug, new byte[size]);
+            stores++;
+            bytes += size;
+            Iterator<Map.Entry<String, byte[]>> iterator = entries.entrySet().iterator();
+            while (bytes > maxBytes && iterator.hasNext()) {
+                Map.Entry<String, byte[]> eldest = iterator.next();
+                bytes -= eldest.getValue().length;
+                iterator.remove();
+            }
+            return false;
+        }
+
+        @Override
+        public long stores() {
+            return stores;
+        }
+    }
+
+    /** Zipf-distributed ranks 0..n-1 by inverse transform over the cumulative weights. */
+    private static final class Zipf {
+
+        private final double[] cumulative;
+        private final Random random;
+
+        Zipf(int n, double exponent, Random random) {
+            this.cumulative = new double[n];
+            this.random = random;
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1 / Math.pow(i + 1, exponent);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        int next() {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+        }
+    }
+}
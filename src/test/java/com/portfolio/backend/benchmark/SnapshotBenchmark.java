@@ -0,0 +1,120 @@
+package com.portfolio.backend.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.portfolio.backend.entity.Blog;
+import com.portfolio.backend.provider.file.BinarySnapshot;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the FILE-mode JSON path (pretty-printed ObjectMapper, as used by
+ * BlogDataLoader) with the Smile snapshot for a synthetic blog list.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.portfolio.backend.benchmark.SnapshotBenchmark -Dexec.args="5000 2000"
+ * </pre>
+ *
+ * Arguments: number of blogs (default 2000), content length per blog (default 2000).
+ */
+public class SnapshotBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final List<String> TAGS = List.of("Java", "Spring Boot", "React", "PostgreSQL", "Performance", "Cloud");
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int contentLength = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        List<Blog> blogs = syntheticBlogs(count, contentLength);
+
+        ObjectMapper json = new ObjectMapper();
+        json.registerModule(new JavaTimeModule());
+        BinarySnapshot snapshot = new BinarySnapshot();
+
+        Path directory = Files.createTempDirectory("snapshot-benchmark");
+        Path jsonFile = directory.resolve("blogs.json");
+        Path snapshotFile = BinarySnapshot.pathFor(jsonFile);
+        try {
+            System.out.printf("%d blogs, %d chars of content each%n", count, contentLength);
+            Result jsonResult = measure(
+                    () -> Files.write(jsonFile, json.writerWithDefaultPrettyPrinter().writeValueAsBytes(blogs)),
+                    () -> json.readValue(jsonFile.toFile(), new TypeReference<List<Blog>>() {}),
+                    jsonFile);
+            Result smileResult = measure(
+                    () -> snapshot.write(snapshotFile, blogs),
+                    () -> snapshot.read(snapshotFile, snapshot.listType(Blog.class)),
+                    snapshotFile);
+            print("JSON", jsonResult);
+            print("Smile", smileResult);
+            System.out.printf("Smile vs JSON: save %.1fx faster, load %.1fx faster, %.1fx smaller%n",
+                    jsonResult.saveMillis / smileResult.saveMillis,
+                    jsonResult.loadMillis / smileResult.loadMillis,
+                    (double) jsonResult.bytes / smileResult.bytes);
+        } finally {
+            Files.deleteIfExists(jsonFile);
+            Files.deleteIfExists(snapshotFile);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private interface Task {
+        void run() throws Exception;
+    }
+
+    private record Result(double saveMillis, double loadMillis, long bytes) {
+    }
+
+    private static Result measure(Task save, Task load, Path file) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            save.run();
+            load.run();
+        }
+        double saveMillis = time(save);
+        double loadMillis = time(load);
+        return new Result(saveMillis, loadMillis, Files.size(file));
+    }
+
+    private static double time(Task task) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ROUNDS;
+    }
+
+    private static void print(String format, Result result) {
+        System.out.printf("%-6s save %8.2f ms   load %8.2f ms   %,12d bytes%n",
+                format, result.saveMillis, result.loadMillis, result.bytes);
+    }
+
+    private static List<Blog> syntheticBlogs(int count, int contentLength) {
+        String content = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(contentLength / 57 + 1)
+                .substring(0, contentLength);
+        LocalDateTime now = LocalDateTime.now();
+        List<Blog> blogs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Blog blog = new Blog();
+            blog.setId((long) i + 1);
+            blog.setTitle("Synthetic post " + i);
+            blog.setSlug("synthetic-post-" + i);
+            blog.setExcerpt("An excerpt for synthetic post " + i);
+            blog.setContent(content);
+            blog.setAuthor("Portfolio Author");
+            blog.setDate(now.minusHours(i));
+            blog.setTags(new ArrayList<>(List.of(TAGS.get(i % TAGS.size()), TAGS.get((i + 3) % TAGS.size()))));
+            blog.setReadTime("5 min read");
+            blog.setPublished(true);
+            blog.setCreatedAt(now);
+            blog.setUpdatedAt(now);
+            blogs.add(blog);
+        }
+        return blogs;
+    }
+}
@@ -0,0 +1,129 @@
+package com.portfolio.backend.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.portfolio.backend.entity.Blog;
+import com.portfolio.backend.model.TagDictionary;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Heap held by a large blog archive as BlogDataLoader reads it, with and
+ * without canonicalization through TagDictionary. Each variant is loaded from
+ * the same JSON and measured with a class histogram (a full GC first, as
+ * {@code jcmd <pid> GC.class_histogram}), minus a histogram taken before loading.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.portfolio.backend.benchmark.TagDictionaryBenchmark -Dexec.args="50000 200"
+ * </pre>
+ *
+ * Arguments: number of blogs (default 50000), content length per blog (default 200,
+ * kept short so the metadata the dictionary affects is visible next to the bodies).
+ */
+public class TagDictionaryBenchmark {
+
+    private static final List<String> TAGS = List.of("Java", "Spring Boot", "React", "PostgreSQL", "Performance",
+            "Cloud", "Kubernetes", "Testing", "Architecture", "JavaScript", "Databases", "Career");
+    private static final List<String> AUTHORS = List.of("Portfolio Author", "Guest Author");
+    private static final List<String> REPORTED_CLASSES = List.of("java.lang.String", "[B", "java.util.ArrayList",
+            "[Ljava.lang.Object;", "java.util.ImmutableCollections$List12", "java.util.ImmutableCollections$ListN");
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int contentLength = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        byte[] json = objectMapper.writeValueAsBytes(syntheticBlogs(count, contentLength));
+        System.out.printf("%d blogs, %d chars of content each, %,d bytes of JSON%n", count, contentLength, json.length);
+
+        Map<String, long[]> before = histogram();
+        List<Blog> plain = objectMapper.readValue(json, new TypeReference<List<Blog>>() {});
+        Map<String, long[]> plainHeap = diff(histogram(), before);
+        report("As parsed", plainHeap, plain.size());
+        plain = null;
+
+        before = histogram();
+        List<Blog> canonical = objectMapper.readValue(json, new TypeReference<List<Blog>>() {});
+        canonical.forEach(TagDictionary::canonicalize);
+        Map<String, long[]> canonicalHeap = diff(histogram(), before);
+        report("Canonicalized", canonicalHeap, canonical.size());
+
+        long plainTotal = plainHeap.getOrDefault("Total", new long[2])[1];
+        long canonicalTotal = canonicalHeap.getOrDefault("Total", new long[2])[1];
+        System.out.printf("Canonicalized vs as parsed: %,d fewer bytes (%.1f%%)%n",
+                plainTotal - canonicalTotal, 100.0 * (plainTotal - canonicalTotal) / plainTotal);
+    }
+
+    /**
+     * Instances and bytes per class after a full GC, from the same diagnostic
+     * command jcmd uses.
+     */
+    private static Map<String, long[]> histogram() throws Exception {
+        String output = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName("com.sun.management:type=DiagnosticCommand"), "gcClassHistogram",
+                new Object[]{new String[0]}, new String[]{String[].class.getName()});
+        Map<String, long[]> histogram = new LinkedHashMap<>();
+        for (String line : output.split("\n")) {
+            String[] fields = line.trim().split("\\s+");
+            if (fields.length >= 4 && fields[0].endsWith(":")) {
+                histogram.put(fields[3], new long[]{Long.parseLong(fields[1]), Long.parseLong(fields[2])});
+            } else if (fields.length >= 3 && fields[0].equals("Total")) {
+                histogram.put("Total", new long[]{Long.parseLong(fields[1]), Long.parseLong(fields[2])});
+            }
+        }
+        return histogram;
+    }
+
+    private static Map<String, long[]> diff(Map<String, long[]> after, Map<String, long[]> before) {
+        Map<String, long[]> diff = new LinkedHashMap<>();
+        after.forEach((name, counts) -> {
+            long[] base = before.getOrDefault(name, new long[2]);
+            diff.put(name, new long[]{counts[0] - base[0], counts[1] - base[1]});
+        });
+        return diff;
+    }
+
+    private static void report(String label, Map<String, long[]> diff, int blogs) {
+        System.out.printf("%s (%d blogs)%n", label, blogs);
+        for (String name : REPORTED_CLASSES) {
+            long[] counts = diff.getOrDefault(name, new long[2]);
+            System.out.printf("  %-42s %,12d instances %,14d bytes%n", name, counts[0], counts[1]);
+        }
+        long[] total = diff.getOrDefault("Total", new long[2]);
+        System.out.printf("  %-42s %,12d instances %,14d bytes%n", "Total", total[0], total[1]);
+    }
+
+    private static List<Blog> syntheticBlogs(int count, int contentLength) {
+        String content = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(contentLength / 57 + 1)
+                .substring(0, contentLength);
+        LocalDateTime now = LocalDateTime.now();
+        List<Blog> blogs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Blog blog = new Blog();
+            blog.setId((long) i + 1);
+            blog.setTitle("Synthetic post " + i);
+            blog.setSlug("synthetic-post-" + i);
+            blog.setExcerpt("An excerpt for synthetic post " + i);
+            blog.setContent(content);
+            blog.setAuthor(AUTHORS.get(i % 10 == 0 ? 1 : 0));
+            blog.setDate(now.minusHours(i));
+            blog.setTags(new ArrayList<>(List.of(TAGS.get(i % TAGS.size()), TAGS.get((i * 7 + 3) % TAGS.size()),
+                    TAGS.get((i / 3) % TAGS.size()))));
+            blog.setReadTime("5 min read");
+            blog.setPublished(true);
+            blog.setCreatedAt(now);
+            blog.setUpdatedAt(now);
+            blogs.add(blog);
+        }
+        return blogs;
+    }
+}
@@ -0,0 +1,156 @@
+package com.portfolio.backend.consistency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VersionedCacheTest {
+
+    private static final int CALLERS = 8;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        ConsistencyContext.end();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        VersionedCache cache = cache(null, null, () -> null);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(() -> cache.get("key", () -> {
+                loads.incrementAndGet();
+                release.await();
+                return "value";
+            })));
+        }
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(counter("portfolio.cache.loads")).isEqualTo(1);
+        assertThat(cache.get("key").get()).isEqualTo("value");
+    }
+
+    @Test
+    void callersWaitingOnAFailedLoadGetItsException() throws Exception {
+        VersionedCache cache = cache(null, null, () -> null);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(() -> cache.get("key", () -> {
+                loads.incrementAndGet();
+                release.await();
+                throw new IllegalStateException("database down");
+            })));
+        }
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(Cache.ValueRetrievalException.class)
+                    .hasRootCauseMessage("database down");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get("key")).isNull();
+        // The failed load is no longer in flight, so the next miss loads again
+        assertThat(cache.get("key", () -> "recovered")).isEqualTo("recovered");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void staleEntryIsRefreshedThroughTheReloaderNotTheCapturedLoader() throws Exception {
+        AtomicInteger version = new AtomicInteger();
+        VersionedCache[] cache = new VersionedCache[1];
+        CacheReloaders reloaders = name -> key -> cache[0].get(key, () -> "v" + version.incrementAndGet());
+        cache[0] = cache(null, Duration.ofMillis(1), () -> reloaders);
+
+        assertThat(cache[0].get("key", () -> "v" + version.incrementAndGet())).isEqualTo("v1");
+        Thread.sleep(5);
+
+        // The refresh runs on the calling thread here, after the stale value has been read
+        String stale = cache[0].get("key", () -> {
+            throw new AssertionError("refresh reused the request's loader");
+        });
+        assertThat(stale).isEqualTo("v1");
+        assertThat(cache[0].get("key").get()).isEqualTo("v2");
+        assertThat(counter("portfolio.cache.refreshes")).isEqualTo(1);
+    }
+
+    @Test
+    void putIsNotDatedByAMissOnAnotherKey() throws Exception {
+        VersionedCache cache = cache("blogs", null, () -> null);
+
+        assertThat(cache.get("unrelated")).isNull();
+        Thread.sleep(20);
+        long beforePut = System.currentTimeMillis();
+        cache.put("key", "value");
+
+        ConsistencyContext.begin(Map.of("blogs", beforePut), true);
+        assertThat(cache.get("key")).isNotNull();
+    }
+
+    @Test
+    void entryOlderThanTheCallersTokenIsReloaded() {
+        VersionedCache cache = cache("blogs", null, () -> null);
+        cache.put("key", "old");
+
+        ConsistencyContext.begin(Map.of("blogs", System.currentTimeMillis() + 1_000), true);
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.get("key", () -> "new")).isEqualTo("new");
+    }
+
+    private VersionedCache cache(String collection, Duration refreshAfterWrite,
+                                 Supplier<CacheReloaders> reloaders) {
+        return new VersionedCache(new ConcurrentMapCache("test"), collection, 0, refreshAfterWrite, reloaders,
+                Runnable::run, meterRegistry);
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter("portfolio.cache.coalesced") < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Only " + counter("portfolio.cache.coalesced") + " callers joined the load");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
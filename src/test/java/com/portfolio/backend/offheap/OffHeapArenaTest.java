@@ -0,0 +1,66 @@
+package com.portfolio.backend.offheap;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapArenaTest {
+
+    private static final int CHUNK = 16;
+
+    // Two slabs of four chunks
+    private final OffHeapArena arena = new OffHeapArena(CHUNK, 4 * CHUNK, 8 * CHUNK);
+
+    @Test
+    void readsBackDataSpanningSeveralChunks() {
+        byte[] data = bytes("a text longer than one sixteen-byte chunk");
+
+        int[] chunks = arena.store(data);
+
+        assertThat(chunks).hasSize(3);
+        assertThat(arena.read(chunks, data.length)).isEqualTo(data);
+        assertThat(arena.usedBytes()).isEqualTo(3 * CHUNK);
+    }
+
+    @Test
+    void allocatesSlabsOnDemandUpToTheMaximum() {
+        assertThat(arena.reservedBytes()).isZero();
+
+        assertThat(arena.store(new byte[4 * CHUNK])).isNotNull();
+        assertThat(arena.reservedBytes()).isEqualTo(4 * CHUNK);
+        assertThat(arena.store(new byte[4 * CHUNK])).isNotNull();
+        assertThat(arena.reservedBytes()).isEqualTo(8 * CHUNK);
+
+        assertThat(arena.store(new byte[1])).isNull();
+    }
+
+    @Test
+    void freedChunksAreReusedWithoutGrowingTheArena() {
+        int[] first = arena.store(new byte[8 * CHUNK]);
+        assertThat(arena.store(new byte[1])).isNull();
+
+        arena.free(first);
+        assertThat(arena.usedBytes()).isZero();
+
+        byte[] data = bytes("stored again in freed chunks");
+        int[] reused = arena.store(data);
+        assertThat(reused).isNotNull();
+        assertThat(first).contains(reused);
+        assertThat(arena.read(reused, data.length)).isEqualTo(data);
+        assertThat(arena.reservedBytes()).isEqualTo(8 * CHUNK);
+    }
+
+    @Test
+    void emptyDataTakesOneChunk() {
+        int[] chunks = arena.store(new byte[0]);
+
+        assertThat(chunks).hasSize(1);
+        assertThat(arena.read(chunks, 0)).isEmpty();
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
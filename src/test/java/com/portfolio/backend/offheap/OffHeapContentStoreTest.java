@@ -0,0 +1,53 @@
+package com.portfolio.backend.offheap;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapContentStoreTest {
+
+    private final OffHeapArena arena = new OffHeapArena(64, 1024, 1024);
+    private final OffHeapContentStore store = new OffHeapContentStore(arena, new SimpleMeterRegistry());
+
+    @Test
+    void sameContentIsStoredOnce() {
+        ContentRef first = store.retain("shared body");
+        ContentRef second = store.retain("shared body");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(arena.usedBytes()).isEqualTo(64);
+        assertThat(store.read(first)).isEqualTo("shared body");
+    }
+
+    @Test
+    void contentIsFreedWithItsLastReference() {
+        ContentRef first = store.retain("shared body");
+        ContentRef second = store.retain("shared body");
+
+        store.release(first);
+        assertThat(store.read(second)).isEqualTo("shared body");
+
+        store.release(second);
+        assertThat(store.read(second)).isNull();
+        assertThat(arena.usedBytes()).isZero();
+    }
+
+    @Test
+    void fullArenaLeavesContentOnTheHeap() {
+        assertThat(store.retain(new byte[1024])).isNotNull();
+
+        assertThat(store.retain(new byte[]{1})).isNull();
+    }
+
+    @Test
+    void releasedSpaceIsReusedForNewContent() {
+        ContentRef large = store.retain(new byte[1024]);
+        store.release(large);
+
+        ContentRef text = store.retain("fits again");
+        assertThat(text).isNotNull();
+        assertThat(store.read(text)).isEqualTo("fits again");
+        assertThat(store.readBytes(large)).isNull();
+    }
+}
@@ -0,0 +1,92 @@
+package com.portfolio.backend.provider.file;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedReadModelTest {
+
+    private static final class Item {
+        private final Long id;
+        private int rank;
+        private boolean visible;
+
+        private Item(Long id, int rank, boolean visible) {
+            this.id = id;
+            this.rank = rank;
+            this.visible = visible;
+        }
+    }
+
+    private final SortedReadModel<Item, Integer> byRank =
+            new SortedReadModel<Item, Integer>(item -> item.id, item -> item.rank, Comparator.naturalOrder());
+    private final SortedReadModel<Item, Integer> visibleByRank =
+            new SortedReadModel<Item, Integer>(item -> item.id, item -> item.rank, Comparator.naturalOrder(),
+                    item -> item.visible);
+
+    private final Item first = new Item(1L, 30, true);
+    private final Item second = new Item(2L, 10, false);
+    private final Item third = new Item(3L, 20, true);
+
+    @Test
+    void listsItemsInKeyOrder() {
+        byRank.reset(List.of(first, second, third));
+
+        assertThat(byRank.list()).containsExactly(second, third, first);
+    }
+
+    @Test
+    void listsOnlyItemsMatchingTheFilter() {
+        visibleByRank.reset(List.of(first, second, third));
+
+        assertThat(visibleByRank.list()).containsExactly(third, first);
+
+        second.visible = true;
+        visibleByRank.put(second);
+        first.visible = false;
+        visibleByRank.put(first);
+        assertThat(visibleByRank.list()).containsExactly(second, third);
+    }
+
+    @Test
+    void itemMutatedInPlaceIsRepositionedWhenSaved() {
+        byRank.reset(List.of(first, second, third));
+
+        first.rank = 5;
+        byRank.put(first);
+
+        assertThat(byRank.list()).containsExactly(first, second, third);
+    }
+
+    @Test
+    void removesItemsById() {
+        byRank.reset(List.of(first, second, third));
+
+        byRank.remove(3L);
+
+        assertThat(byRank.list()).containsExactly(second, first);
+    }
+
+    @Test
+    void itemsWithoutIdsAreListedAlongsideItemsWithTheSameKey() {
+        Item anonymous = new Item(null, 20, true);
+
+        byRank.reset(List.of(first, anonymous, third));
+
+        assertThat(byRank.list()).containsExactly(anonymous, third, first);
+    }
+
+    @Test
+    void snapshotIsRebuiltOnlyAfterAWrite() {
+        byRank.reset(List.of(first, second));
+        List<Item> snapshot = byRank.list();
+
+        assertThat(byRank.list()).isSameAs(snapshot);
+
+        byRank.put(third);
+        assertThat(byRank.list()).isNotSameAs(snapshot).containsExactly(second, third, first);
+    }
+}
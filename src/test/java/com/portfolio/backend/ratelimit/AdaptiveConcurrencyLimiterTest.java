@@ -0,0 +1,80 @@
+package com.portfolio.backend.ratelimit;
+
+import com.portfolio.backend.config.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long START = TimeUnit.SECONDS.toNanos(1);
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(), 0);
+
+    @Test
+    void rejectsRequestsOnceTheLimitIsReached() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void queueingLatencyShrinksTheLimitOncePerSample() {
+        complete(FAST, START);
+
+        complete(SLOW, START + SLOW + 1);
+        assertThat(limiter.limit()).isEqualTo(5);
+
+        // A second slow sample within the first one's duration is the same overload
+        complete(SLOW, START + SLOW + 2);
+        assertThat(limiter.limit()).isEqualTo(5);
+
+        complete(SLOW, START + 2 * SLOW + 2);
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void backoffStopsAtTheMinimumLimit() {
+        complete(FAST, START);
+        long now = START;
+        for (int i = 0; i < 10; i++) {
+            now += SLOW + 1;
+            complete(SLOW, now);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void fastSamplesGrowTheLimitOnlyWhileItIsUsed() {
+        complete(FAST, START);
+        assertThat(limiter.limit()).isEqualTo(10);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+        }
+        limiter.release(FAST, START + 1);
+        assertThat(limiter.limit()).isEqualTo(11);
+    }
+
+    private void complete(long latencyNanos, long now) {
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.release(latencyNanos, now);
+    }
+
+    private static RateLimitProperties.Concurrency properties() {
+        RateLimitProperties.Concurrency properties = new RateLimitProperties.Concurrency();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(2);
+        properties.setMaxLimit(20);
+        properties.setBackoffRatio(0.5);
+        return properties;
+    }
+}
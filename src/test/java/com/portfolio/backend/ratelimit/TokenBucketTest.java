@@ -0,0 +1,43 @@
+package com.portfolio.backend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // A burst of two, refilled at one token per second
+    private final TokenBucket bucket = new TokenBucket(2, 60, 0);
+
+    @Test
+    void allowsTheBurstThenReportsTheWaitForTheNextToken() {
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+
+        assertThat(bucket.tryConsume(0)).isCloseTo(SECOND, within(1_000L));
+        assertThat(bucket.tryConsume(SECOND / 2)).isCloseTo(SECOND / 2, within(1_000L));
+    }
+
+    @Test
+    void refillsOverTime() {
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        assertThat(bucket.tryConsume(SECOND + 1_000)).isZero();
+        assertThat(bucket.tryConsume(SECOND + 1_000)).isPositive();
+    }
+
+    @Test
+    void refillsNoFurtherThanTheBurst() {
+        long later = 60 * SECOND;
+
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isPositive();
+    }
+}
@@ -0,0 +1,103 @@
+package com.portfolio.backend.transfer;
+
+import com.portfolio.backend.config.TransferProperties;
+import com.portfolio.backend.entity.Blog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class BlogTransferServiceTest {
+
+    private static final String JOB = "import:blogs.json";
+
+    @TempDir
+    Path directory;
+
+    private final BlogBatchWriter blogBatchWriter = mock(BlogBatchWriter.class);
+    private final List<List<Long>> upsertedIds = new ArrayList<>();
+    private BlogTransferService blogTransferService;
+
+    @BeforeEach
+    void setUp() {
+        // The service clears each batch once written, so record the ids as they arrive
+        doAnswer(invocation -> {
+            List<Blog> batch = invocation.getArgument(0);
+            upsertedIds.add(batch.stream().map(Blog::getId).toList());
+            return null;
+        }).when(blogBatchWriter).upsert(anyList());
+
+        TransferProperties transferProperties = new TransferProperties();
+        transferProperties.setBatchSize(2);
+        blogTransferService = new BlogTransferService(mock(DataSource.class), mock(PlatformTransactionManager.class),
+                blogBatchWriter, transferProperties);
+    }
+
+    @Test
+    void importWritesEveryBlogInBatches() throws Exception {
+        Path file = directory.resolve("transfer.checkpoint");
+
+        TransferProgress progress = blogTransferService.importBlogs(blogs(5), TransferCheckpoint.load(file, JOB));
+
+        assertThat(upsertedIds).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        assertThat(progress.getProcessed()).isEqualTo(5);
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    void resumedImportSkipsTheBlogsAlreadyWritten() throws Exception {
+        Path file = directory.resolve("transfer.checkpoint");
+        TransferCheckpoint.load(file, JOB).advance(2, 2, 0);
+
+        blogTransferService.importBlogs(blogs(5), TransferCheckpoint.load(file, JOB));
+
+        assertThat(upsertedIds).containsExactly(List.of(3L, 4L), List.of(5L));
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    void interruptedImportLeavesACheckpointAfterTheLastBatch() throws Exception {
+        Path file = directory.resolve("transfer.checkpoint");
+        doAnswer(invocation -> {
+            List<Blog> batch = invocation.getArgument(0);
+            if (batch.get(0).getId() == 3L) {
+                throw new IllegalStateException("connection lost");
+            }
+            upsertedIds.add(batch.stream().map(Blog::getId).toList());
+            return null;
+        }).when(blogBatchWriter).upsert(anyList());
+
+        assertThatThrownBy(() -> blogTransferService.importBlogs(blogs(5), TransferCheckpoint.load(file, JOB)))
+                .hasMessage("connection lost");
+
+        TransferCheckpoint checkpoint = TransferCheckpoint.load(file, JOB);
+        assertThat(checkpoint.getProcessed()).isEqualTo(2);
+        assertThat(checkpoint.getLastId()).isEqualTo(2);
+    }
+
+    private static ByteArrayResource blogs(int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int id = 1; id <= count; id++) {
+            json.append(id > 1 ? "," : "")
+                    .append("{\"id\":").append(id)
+                    .append(",\"title\":\"Post ").append(id)
+                    .append("\",\"slug\":\"post-").append(id)
+                    .append("\",\"tags\":[\"java\"]}");
+        }
+        return new ByteArrayResource(json.append("]").toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
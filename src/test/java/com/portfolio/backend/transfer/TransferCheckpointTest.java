@@ -0,0 +1,53 @@
+package com.portfolio.backend.transfer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransferCheckpointTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void resumesTheSameJobWhereItStopped() {
+        Path file = directory.resolve("transfer.checkpoint");
+        TransferCheckpoint checkpoint = TransferCheckpoint.load(file, "export:blogs.json");
+        checkpoint.advance(500, 512, 40_960);
+        checkpoint.advance(250, 780, 61_440);
+
+        TransferCheckpoint resumed = TransferCheckpoint.load(file, "export:blogs.json");
+
+        assertThat(resumed.isResumed()).isTrue();
+        assertThat(resumed.getProcessed()).isEqualTo(750);
+        assertThat(resumed.getLastId()).isEqualTo(780);
+        assertThat(resumed.getOffset()).isEqualTo(61_440);
+    }
+
+    @Test
+    void anotherJobStartsFromScratch() {
+        Path file = directory.resolve("transfer.checkpoint");
+        TransferCheckpoint.load(file, "export:blogs.json").advance(500, 512, 40_960);
+
+        TransferCheckpoint other = TransferCheckpoint.load(file, "import:classpath:blogs.json");
+
+        assertThat(other.isResumed()).isFalse();
+        assertThat(other.getLastId()).isZero();
+    }
+
+    @Test
+    void clearedCheckpointIsNotResumed() {
+        Path file = directory.resolve("transfer.checkpoint");
+        TransferCheckpoint checkpoint = TransferCheckpoint.load(file, "export:blogs.json");
+        checkpoint.advance(500, 512, 40_960);
+
+        checkpoint.clear();
+
+        assertThat(Files.exists(file)).isFalse();
+        assertThat(TransferCheckpoint.load(file, "export:blogs.json").isResumed()).isFalse();
+    }
+}